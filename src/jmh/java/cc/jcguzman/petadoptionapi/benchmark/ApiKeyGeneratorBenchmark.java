@@ -0,0 +1,68 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import cc.jcguzman.petadoptionapi.util.ApiKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link ApiKeyGenerator} methods, one key per operation. The two prefixed-key batch
+ * benchmarks mint {@value #BATCH} keys per invocation, one through
+ * {@link ApiKeyGenerator#generatePrefixedKey(String)} and one through
+ * {@link ApiKeyGenerator#generatePrefixedKeys(String, int)}, so their scores are per key too.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ApiKeyGeneratorBenchmark {
+
+    private static final int BATCH = 1000;
+
+    @Benchmark
+    public String uuid() {
+        return ApiKeyGenerator.generateUUID();
+    }
+
+    @Benchmark
+    public String secureRandomKey() {
+        return ApiKeyGenerator.generateSecureRandomKey(32);
+    }
+
+    @Benchmark
+    public String prefixedKey() {
+        return ApiKeyGenerator.generatePrefixedKey("pat");
+    }
+
+    @Benchmark
+    public String versionedKey() {
+        return ApiKeyGenerator.generateVersionedKey("v1");
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void prefixedKeysOneByOne(Blackhole blackhole) {
+        for (int i = 0; i < BATCH; i++) {
+            blackhole.consume(ApiKeyGenerator.generatePrefixedKey("pat"));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public List<String> prefixedKeysBatch() {
+        return ApiKeyGenerator.generatePrefixedKeys("pat", BATCH);
+    }
+}
@@ -0,0 +1,101 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import cc.jcguzman.petadoptionapi.model.Fosters;
+import cc.jcguzman.petadoptionapi.model.Pets;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of the {@link Pets} and {@link Fosters} list responses. Each foster carries
+ * {@value Payloads#PETS_PER_FOSTER} assigned pets, as the list endpoints return them.
+ * Writes go to a discarding stream, as they would to the response body, so buffer growth
+ * is not part of the measurement.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CollectionSerializationBenchmark {
+
+    @Param({"1", "100", "1000", "10000", "100000"})
+    private int size;
+
+    private final OutputStream sink = new DiscardingOutputStream();
+
+    private ObjectMapper json;
+    private ObjectMapper xml;
+    private Pets pets;
+    private Fosters fosters;
+    private byte[] petsJson;
+    private byte[] petsXml;
+    private byte[] fostersJson;
+    private byte[] fostersXml;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = Mappers.json();
+        xml = Mappers.xml();
+        pets = Payloads.pets(size);
+        fosters = Payloads.fosters(size);
+        petsJson = json.writeValueAsBytes(pets);
+        petsXml = xml.writeValueAsBytes(pets);
+        fostersJson = json.writeValueAsBytes(fosters);
+        fostersXml = xml.writeValueAsBytes(fosters);
+    }
+
+    @Benchmark
+    public void writePetsJson() throws IOException {
+        json.writeValue(sink, pets);
+    }
+
+    @Benchmark
+    public void writePetsXml() throws IOException {
+        xml.writeValue(sink, pets);
+    }
+
+    @Benchmark
+    public Pets readPetsJson() throws IOException {
+        return json.readValue(petsJson, Pets.class);
+    }
+
+    @Benchmark
+    public Pets readPetsXml() throws IOException {
+        return xml.readValue(petsXml, Pets.class);
+    }
+
+    @Benchmark
+    public void writeFostersJson() throws IOException {
+        json.writeValue(sink, fosters);
+    }
+
+    @Benchmark
+    public void writeFostersXml() throws IOException {
+        xml.writeValue(sink, fosters);
+    }
+
+    @Benchmark
+    public Fosters readFostersJson() throws IOException {
+        return json.readValue(fostersJson, Fosters.class);
+    }
+
+    @Benchmark
+    public Fosters readFostersXml() throws IOException {
+        return xml.readValue(fostersXml, Fosters.class);
+    }
+}
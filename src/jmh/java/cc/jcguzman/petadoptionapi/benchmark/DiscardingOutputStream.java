@@ -0,0 +1,18 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import java.io.OutputStream;
+
+/**
+ * Drops everything written to it. Unlike {@link OutputStream#nullOutputStream()} it stays
+ * usable after {@code close()}, which the mappers call after every write.
+ */
+final class DiscardingOutputStream extends OutputStream {
+
+    @Override
+    public void write(int b) {
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+    }
+}
@@ -0,0 +1,94 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialization of a single {@link Pet} and {@link Foster}, as returned by the get-by-id endpoints.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EntitySerializationBenchmark {
+
+    private final OutputStream sink = new DiscardingOutputStream();
+
+    private ObjectMapper json;
+    private ObjectMapper xml;
+    private Pet pet;
+    private Foster foster;
+    private byte[] petJson;
+    private byte[] petXml;
+    private byte[] fosterJson;
+    private byte[] fosterXml;
+
+    @Setup
+    public void setUp() throws IOException {
+        json = Mappers.json();
+        xml = Mappers.xml();
+        pet = Payloads.pet(1);
+        foster = Payloads.foster(1);
+        petJson = json.writeValueAsBytes(pet);
+        petXml = xml.writeValueAsBytes(pet);
+        fosterJson = json.writeValueAsBytes(foster);
+        fosterXml = xml.writeValueAsBytes(foster);
+    }
+
+    @Benchmark
+    public void writePetJson() throws IOException {
+        json.writeValue(sink, pet);
+    }
+
+    @Benchmark
+    public void writePetXml() throws IOException {
+        xml.writeValue(sink, pet);
+    }
+
+    @Benchmark
+    public Pet readPetJson() throws IOException {
+        return json.readValue(petJson, Pet.class);
+    }
+
+    @Benchmark
+    public Pet readPetXml() throws IOException {
+        return xml.readValue(petXml, Pet.class);
+    }
+
+    @Benchmark
+    public void writeFosterJson() throws IOException {
+        json.writeValue(sink, foster);
+    }
+
+    @Benchmark
+    public void writeFosterXml() throws IOException {
+        xml.writeValue(sink, foster);
+    }
+
+    @Benchmark
+    public Foster readFosterJson() throws IOException {
+        return json.readValue(fosterJson, Foster.class);
+    }
+
+    @Benchmark
+    public Foster readFosterXml() throws IOException {
+        return xml.readValue(fosterXml, Foster.class);
+    }
+}
@@ -0,0 +1,85 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import cc.jcguzman.petadoptionapi.model.Fosters;
+import cc.jcguzman.petadoptionapi.model.Pets;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encode and decode time of the {@link Pets} and {@link Fosters} list responses in each
+ * negotiable format: JSON, XML, CBOR and Smile. The encoded size of each payload is printed
+ * once per trial, ahead of the iterations, as {@code payload bytes: ...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatSerializationBenchmark {
+
+    @Param({"json", "xml", "cbor", "smile"})
+    private String format;
+
+    @Param({"1000"})
+    private int size;
+
+    private final OutputStream sink = new DiscardingOutputStream();
+
+    private ObjectMapper mapper;
+    private Pets pets;
+    private Fosters fosters;
+    private byte[] encodedPets;
+    private byte[] encodedFosters;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = switch (format) {
+            case "json" -> Mappers.json();
+            case "xml" -> Mappers.xml();
+            case "cbor" -> Mappers.cbor();
+            case "smile" -> Mappers.smile();
+            default -> throw new IllegalArgumentException("Unknown format " + format);
+        };
+        pets = Payloads.pets(size);
+        fosters = Payloads.fosters(size);
+        encodedPets = mapper.writeValueAsBytes(pets);
+        encodedFosters = mapper.writeValueAsBytes(fosters);
+        System.out.printf("payload bytes: format=%s size=%d pets=%d fosters=%d%n", format, size,
+                encodedPets.length, encodedFosters.length);
+    }
+
+    @Benchmark
+    public void encodePets() throws IOException {
+        mapper.writeValue(sink, pets);
+    }
+
+    @Benchmark
+    public Pets decodePets() throws IOException {
+        return mapper.readValue(encodedPets, Pets.class);
+    }
+
+    @Benchmark
+    public void encodeFosters() throws IOException {
+        mapper.writeValue(sink, fosters);
+    }
+
+    @Benchmark
+    public Fosters decodeFosters() throws IOException {
+        return mapper.readValue(encodedFosters, Fosters.class);
+    }
+}
@@ -0,0 +1,100 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import cc.jcguzman.petadoptionapi.matching.SpeciesPreferenceScorer;
+import cc.jcguzman.petadoptionapi.matching.WaitTimeScorer;
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.FosterAssignment;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import cc.jcguzman.petadoptionapi.service.FosterMatchingService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * One whole {@link FosterMatchingService#applyMatches()} run over {@code pets} unfostered
+ * pets and {@code fosters} fosters with free slots: grouping, scoring, the matcher, slot
+ * spreading and the in-memory assignment. The repositories are mocks handing out a fresh
+ * dataset per run, so the database round trips are not part of the score.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FosterMatchingBenchmark {
+
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit", "Bird"};
+
+    @Param({"50000"})
+    private int pets;
+
+    @Param({"5000"})
+    private int fosters;
+
+    private PetRepository petRepository;
+    private FosterRepository fosterRepository;
+    private FosterMatchingService service;
+
+    @Setup(Level.Trial)
+    public void createService() {
+        petRepository = mock(PetRepository.class);
+        fosterRepository = mock(FosterRepository.class);
+        service = new FosterMatchingService(petRepository, fosterRepository,
+                List.of(new SpeciesPreferenceScorer(), new WaitTimeScorer()), event -> {
+                });
+    }
+
+    @Setup(Level.Invocation)
+    public void createDataset() {
+        Random random = new Random(7);
+        LocalDateTime now = LocalDateTime.now();
+        List<Pet> petList = new ArrayList<>(pets);
+        for (int i = 0; i < pets; i++) {
+            Pet pet = new Pet();
+            pet.setId((long) i + 1);
+            pet.setName("Pet " + i);
+            pet.setSpecies(SPECIES[random.nextInt(SPECIES.length)]);
+            pet.setDateArrived(now.minusDays(random.nextInt(365)));
+            petList.add(pet);
+        }
+        List<Foster> fosterList = new ArrayList<>(fosters);
+        for (int i = 0; i < fosters; i++) {
+            Foster foster = new Foster();
+            foster.setId((long) i + 1);
+            foster.setName("Foster " + i);
+            foster.setMaxPets(1 + random.nextInt(5));
+            // A third without a preference, the rest split across the species
+            int preference = random.nextInt(SPECIES.length + 2);
+            foster.setPreferredSpecies(preference < SPECIES.length ? SPECIES[preference] : null);
+            fosterList.add(foster);
+        }
+        when(petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE)).thenReturn(petList);
+        when(fosterRepository.findAvailableFostersWithPets()).thenReturn(fosterList);
+    }
+
+    @Benchmark
+    public List<FosterAssignment> applyMatches() {
+        return service.applyMatches();
+    }
+}
@@ -0,0 +1,48 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import cc.jcguzman.petadoptionapi.config.JacksonConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * The mappers the controllers serialize with, built the same way the application builds them.
+ */
+final class Mappers {
+
+    private Mappers() {
+    }
+
+    /** The JSON mapper, straight from {@link JacksonConfig}. */
+    static ObjectMapper json() {
+        return new JacksonConfig().objectMapper();
+    }
+
+    /** The CBOR mapper the application's CBOR converter uses. */
+    static ObjectMapper cbor() {
+        return JacksonConfig.configure(Jackson2ObjectMapperBuilder.cbor()).build();
+    }
+
+    /** The Smile mapper the application's Smile converter uses. */
+    static ObjectMapper smile() {
+        return JacksonConfig.configure(Jackson2ObjectMapperBuilder.smile()).build();
+    }
+
+    /**
+     * The XML mapper. XML has no converter of its own in {@link JacksonConfig}, so Spring Boot
+     * builds it from its auto-configured builder, which applies the {@code spring.jackson.*}
+     * settings in application.properties. Starting just that auto-configuration yields the
+     * same mapper.
+     */
+    static ObjectMapper xml() {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties("spring.main.banner-mode=off", "spring.main.log-startup-info=false")
+                .run()) {
+            return context.getBean(Jackson2ObjectMapperBuilder.class).createXmlMapper(true).build();
+        }
+    }
+}
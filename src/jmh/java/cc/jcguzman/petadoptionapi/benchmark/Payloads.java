@@ -0,0 +1,85 @@
+package cc.jcguzman.petadoptionapi.benchmark;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.Fosters;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.Pets;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Deterministic payloads with every serialized field filled in, so sizes are stable between runs.
+ */
+final class Payloads {
+
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit", "Bird"};
+    private static final String[] BREEDS = {"Labrador", "Siamese", "Holland Lop", "Cockatiel"};
+    private static final LocalDateTime ARRIVED = LocalDateTime.of(2024, 3, 1, 9, 30);
+    private static final Instant FOSTER_SINCE = Instant.parse("2023-06-15T12:00:00Z");
+
+    /** Pets assigned to each generated foster. */
+    static final int PETS_PER_FOSTER = 2;
+
+    private Payloads() {
+    }
+
+    static Pet pet(long id) {
+        int kind = (int) (id % SPECIES.length);
+        Pet pet = new Pet();
+        pet.setId(id);
+        pet.setName("Pet " + id);
+        pet.setSpecies(SPECIES[kind]);
+        pet.setBreed(BREEDS[kind]);
+        pet.setTemperament("Friendly");
+        pet.setAge((int) (id % 15));
+        pet.setGender(id % 2 == 0 ? "Female" : "Male");
+        pet.setWeight(1.5 + id % 40);
+        pet.setColor("Brown");
+        pet.setDateArrived(ARRIVED.plusHours(id));
+        pet.setAdoptionFee(50 + id % 200);
+        pet.setUrgency((int) (id % 4));
+        pet.setChangeSeq(id);
+        pet.setUpdatedAt(ARRIVED.plusHours(id + 1));
+        return pet;
+    }
+
+    static Foster foster(long id) {
+        Foster foster = new Foster();
+        foster.setId(id);
+        foster.setName("First" + id);
+        foster.setLastName("Last" + id);
+        foster.setPhone("555-" + (1000 + id % 9000));
+        foster.setAddress(id + " Main St");
+        foster.setEmail("foster" + id + "@example.com");
+        foster.setLatitude(28.5 + id % 100 / 1000.0);
+        foster.setLongitude(-81.3 - id % 100 / 1000.0);
+        foster.setFosterSince(FOSTER_SINCE);
+        foster.setMaxPets(PETS_PER_FOSTER + 1);
+        foster.setPreferredSpecies(SPECIES[(int) (id % SPECIES.length)]);
+        foster.setChangeSeq(id);
+        for (int i = 0; i < PETS_PER_FOSTER; i++) {
+            foster.assignPet(pet(id * PETS_PER_FOSTER + i));
+        }
+        foster.setUpdatedAt(FOSTER_SINCE.plusSeconds(id));
+        return foster;
+    }
+
+    static Pets pets(int size) {
+        List<Pet> pets = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            pets.add(pet(i));
+        }
+        return new Pets(pets);
+    }
+
+    static Fosters fosters(int size) {
+        List<Foster> fosters = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            fosters.add(foster(i));
+        }
+        return new Fosters(fosters);
+    }
+}
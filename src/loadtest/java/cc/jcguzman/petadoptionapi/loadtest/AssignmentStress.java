@@ -0,0 +1,238 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import cc.jcguzman.petadoptionapi.PetAdoptionApiApplication;
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.service.FosterService;
+import cc.jcguzman.petadoptionapi.service.PetService;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Stress test for foster assignment. Many threads assign, unassign and remove a small pool
+ * of pets across a few low-capacity fosters through {@link FosterService} and
+ * {@link PetService}, against the application's database, while the waitlist places pets
+ * in the background. Afterwards the database is checked for fosters over {@code maxPets}
+ * and for pets whose status disagrees with their foster, and the run fails if it finds any.
+ * <p>
+ * Run it with {@code mvn -Pload-test -DskipTests test-compile exec:java@stress}. Settings
+ * are {@code stress.*} system properties: threads, duration, fosters, pets and seed.
+ */
+@Slf4j
+public final class AssignmentStress {
+
+    private static final int LISTED_VIOLATIONS = 20;
+
+    private enum Operation {
+        ASSIGN(50), UNASSIGN(40), REMOVE(10);
+
+        private final int weight;
+
+        Operation(int weight) {
+            this.weight = weight;
+        }
+
+        static Operation pick(Random random) {
+            int roll = random.nextInt(100);
+            for (Operation operation : values()) {
+                roll -= operation.weight;
+                if (roll < 0) {
+                    return operation;
+                }
+            }
+            throw new IllegalStateException("Weights do not add up to 100");
+        }
+    }
+
+    /**
+     * SUCCESS changed the data, REJECTED is a business rule refusing the call, CONFLICT is a
+     * lock or version conflict the caller could retry, and FAILED is anything else.
+     */
+    private enum Outcome {
+        SUCCESS, REJECTED, CONFLICT, FAILED
+    }
+
+    private final FosterService fosterService;
+    private final PetService petService;
+    private final JdbcTemplate jdbcTemplate;
+    private final long seed;
+    private final LongAdder[][] counts = new LongAdder[Operation.values().length][Outcome.values().length];
+
+    private AssignmentStress(ConfigurableApplicationContext context, long seed) {
+        this.fosterService = context.getBean(FosterService.class);
+        this.petService = context.getBean(PetService.class);
+        this.jdbcTemplate = context.getBean(JdbcTemplate.class);
+        this.seed = seed;
+        for (LongAdder[] row : counts) {
+            for (int o = 0; o < row.length; o++) {
+                row[o] = new LongAdder();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        int threads = Integer.getInteger("stress.threads", 16);
+        Duration duration = DurationStyle.detectAndParse(System.getProperty("stress.duration", "30s"));
+        int fosterCount = Integer.getInteger("stress.fosters", 20);
+        int petCount = Integer.getInteger("stress.pets", 100);
+        long seed = Long.getLong("stress.seed", 42);
+
+        System.getProperties().putIfAbsent("spring.datasource.url", "jdbc:h2:mem:stress");
+        // The waitlist is off by default; the stress test races it against the writers
+        System.getProperties().putIfAbsent("waitlist.auto-assign.enabled", "true");
+        LoadTest.DEFAULT_PROPERTIES.forEach(System.getProperties()::putIfAbsent);
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(PetAdoptionApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(args)) {
+            AssignmentStress stress = new AssignmentStress(context, seed);
+            List<Long> fosterIds = stress.createFosters(fosterCount);
+            List<Long> petIds = stress.createPets(petCount);
+
+            log.info("Running {} threads for {} over {} pets and {} fosters", threads, duration, petCount,
+                    fosterCount);
+            long elapsedNanos = stress.run(threads, duration, fosterIds, petIds);
+            // Let the waitlist finish placing whatever the last operations freed up
+            Thread.sleep(2_000);
+
+            stress.printThroughput(elapsedNanos);
+            int violations = stress.checkInvariants();
+            if (violations > 0) {
+                throw new IllegalStateException(violations + " assignment invariant violations");
+            }
+            log.info("All assignment invariants hold");
+        }
+    }
+
+    private List<Long> createFosters(int count) {
+        Random random = new Random(seed);
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Foster foster = new Foster();
+            foster.setName("Stress");
+            foster.setLastName(Integer.toString(i));
+            foster.setPhone("555-0100");
+            foster.setAddress(i + " Stress St");
+            foster.setEmail("stress" + i + "@stress.example");
+            foster.setMaxPets(1 + random.nextInt(3));
+            ids.add(fosterService.createFoster(foster).getId());
+        }
+        return ids;
+    }
+
+    private List<Long> createPets(int count) {
+        List<Long> ids = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Pet pet = new Pet();
+            pet.setName("Stress " + i);
+            pet.setSpecies(i % 2 == 0 ? "Dog" : "Cat");
+            pet.setAge(1 + i % 10);
+            pet.setWeight(5);
+            ids.add(petService.createPet(pet).getId());
+        }
+        return ids;
+    }
+
+    private long run(int threadCount, Duration duration, List<Long> fosterIds, List<Long> petIds)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+        AtomicInteger reportedFailures = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>(threadCount);
+        for (int t = 0; t < threadCount; t++) {
+            Random random = new Random(seed * 43 + t);
+            Thread thread = new Thread(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = Operation.pick(random);
+                    Long fosterId = fosterIds.get(random.nextInt(fosterIds.size()));
+                    Long petId = petIds.get(random.nextInt(petIds.size()));
+                    Outcome outcome;
+                    try {
+                        apply(operation, fosterId, petId);
+                        outcome = Outcome.SUCCESS;
+                    } catch (IllegalStateException | EntityNotFoundException e) {
+                        outcome = Outcome.REJECTED;
+                    } catch (ConcurrencyFailureException e) {
+                        outcome = Outcome.CONFLICT;
+                    } catch (RuntimeException e) {
+                        outcome = Outcome.FAILED;
+                        if (reportedFailures.incrementAndGet() <= 5) {
+                            log.warn("{} of pet {} with foster {} failed", operation, petId, fosterId, e);
+                        }
+                    }
+                    counts[operation.ordinal()][outcome.ordinal()].increment();
+                }
+            }, "stress-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return System.nanoTime() - start;
+    }
+
+    private void apply(Operation operation, Long fosterId, Long petId) {
+        switch (operation) {
+            case ASSIGN -> fosterService.assignPetToFoster(fosterId, petId);
+            case UNASSIGN -> {
+                // Unassign from the foster the pet had when looked up, as a client would
+                Long currentFosterId = petService.getPetById(petId).getFosterId();
+                fosterService.unassignPetFromFoster(currentFosterId != null ? currentFosterId : fosterId, petId);
+            }
+            case REMOVE -> petService.removePet(petId);
+        }
+    }
+
+    private void printThroughput(long elapsedNanos) {
+        double seconds = elapsedNanos / 1e9;
+        System.out.printf("%n%-10s %10s %10s %10s %10s %10s %10s%n", "operation", "calls", "calls/s",
+                "success", "rejected", "conflict", "failed");
+        long total = 0;
+        for (Operation operation : Operation.values()) {
+            LongAdder[] row = counts[operation.ordinal()];
+            long calls = 0;
+            for (LongAdder count : row) {
+                calls += count.sum();
+            }
+            total += calls;
+            System.out.printf("%-10s %10d %10.1f %10d %10d %10d %10d%n", operation, calls, calls / seconds,
+                    row[Outcome.SUCCESS.ordinal()].sum(), row[Outcome.REJECTED.ordinal()].sum(),
+                    row[Outcome.CONFLICT.ordinal()].sum(), row[Outcome.FAILED.ordinal()].sum());
+        }
+        System.out.printf("%-10s %10d %10.1f%n%n", "total", total, total / seconds);
+    }
+
+    /** Checks the stored state directly, bypassing any cached entities; returns the number of violations. */
+    private int checkInvariants() {
+        List<String> violations = new ArrayList<>();
+        jdbcTemplate.query("SELECT f.id, f.max_pets, COUNT(p.id) FROM fosters f " +
+                        "JOIN pets p ON p.foster_id = f.id " +
+                        "GROUP BY f.id, f.max_pets HAVING COUNT(p.id) > f.max_pets",
+                (RowCallbackHandler) rs -> violations.add("Foster " + rs.getLong(1) + " has " + rs.getLong(3) + " pets but allows "
+                        + rs.getInt(2)));
+        jdbcTemplate.query("SELECT id, current_status, foster_id FROM pets " +
+                        "WHERE (current_status = 'FOSTERED') <> (foster_id IS NOT NULL)",
+                (RowCallbackHandler) rs -> violations.add("Pet " + rs.getLong(1) + " is " + rs.getString(2) + " with foster "
+                        + rs.getObject(3)));
+
+        violations.stream().limit(LISTED_VIOLATIONS).forEach(violation -> log.error("Violation: {}", violation));
+        if (violations.size() > LISTED_VIOLATIONS) {
+            log.error("... and {} more violations", violations.size() - LISTED_VIOLATIONS);
+        }
+        return violations.size();
+    }
+}
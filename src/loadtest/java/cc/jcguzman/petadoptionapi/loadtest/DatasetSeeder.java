@@ -0,0 +1,136 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import cc.jcguzman.petadoptionapi.model.ImportResult;
+import cc.jcguzman.petadoptionapi.service.FosterCsvService;
+import cc.jcguzman.petadoptionapi.service.PetCsvService;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Seeds a synthetic dataset through the CSV import services, so seeded rows get the same
+ * change sequence, history, stats and events as rows written through the API. The data
+ * is generated and imported in chunks on several threads; every chunk has its own random
+ * seed, so a given seed always produces the same rows.
+ */
+class DatasetSeeder {
+
+    private static final int CHUNK_SIZE = 20_000;
+
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit", "Bird", "Guinea Pig"};
+    private static final String[][] BREEDS = {
+            {"Labrador", "German Shepherd", "Beagle", "Husky", "Mixed"},
+            {"Siamese", "Persian", "Maine Coon", "Bengal", "Mixed"},
+            {"Holland Lop", "Dutch", "Lionhead"},
+            {"Parakeet", "Cockatiel", "Canary"},
+            {"American", "Abyssinian"}};
+    private static final String[] TEMPERAMENTS = {"Friendly", "Calm", "Playful", "Shy", "Energetic", "Independent"};
+    private static final String[] COLORS = {"Black", "White", "Brown", "Golden", "Gray", "Tricolor", "Spotted"};
+    private static final LocalDateTime NEWEST_ARRIVAL = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final PetCsvService petCsvService;
+    private final FosterCsvService fosterCsvService;
+    private final LoadTestConfig config;
+
+    DatasetSeeder(PetCsvService petCsvService, FosterCsvService fosterCsvService, LoadTestConfig config) {
+        this.petCsvService = petCsvService;
+        this.fosterCsvService = fosterCsvService;
+        this.config = config;
+    }
+
+    void seed() throws InterruptedException {
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(config.seedThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "seed-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<ImportResult>> results = new ArrayList<>();
+            for (int start = 0; start < config.fosters(); start += CHUNK_SIZE) {
+                int from = start;
+                int to = Math.min(start + CHUNK_SIZE, config.fosters());
+                results.add(executor.submit(() -> fosterCsvService.importFosters(stream(fosterCsv(from, to)))));
+            }
+            for (int start = 0; start < config.pets(); start += CHUNK_SIZE) {
+                int from = start;
+                int to = Math.min(start + CHUNK_SIZE, config.pets());
+                results.add(executor.submit(() -> petCsvService.importPets(stream(petCsv(from, to)))));
+            }
+            for (Future<ImportResult> future : results) {
+                ImportResult result = future.get();
+                if (result.getRejected() > 0 || !result.isComplete()) {
+                    throw new IllegalStateException("Seeding rejected rows: " + result.getErrors());
+                }
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Seeding failed", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String petCsv(int from, int to) {
+        Random random = new Random(config.seed() * 31 + from);
+        StringBuilder csv = new StringBuilder((to - from) * 120);
+        csv.append("Name,Species,Breed,Temperament,Age,Gender,Weight,Color,Date_Arrived,Adoption_Fee,Urgency,")
+                .append("Current_Status\n");
+        for (int i = from; i < to; i++) {
+            int kind = random.nextInt(SPECIES.length);
+            String[] breeds = BREEDS[kind];
+            int statusRoll = random.nextInt(100);
+            LocalDateTime arrived = NEWEST_ARRIVAL.minusMinutes(random.nextInt(2 * 365 * 24 * 60));
+            csv.append("Pet ").append(i).append(',')
+                    .append(SPECIES[kind]).append(',')
+                    .append(breeds[random.nextInt(breeds.length)]).append(',')
+                    .append(TEMPERAMENTS[random.nextInt(TEMPERAMENTS.length)]).append(',')
+                    .append(random.nextInt(16)).append(',')
+                    .append(random.nextBoolean() ? "Male" : "Female").append(',')
+                    .append(1 + random.nextInt(4000) / 100.0).append(',')
+                    .append(COLORS[random.nextInt(COLORS.length)]).append(',')
+                    .append(TIMESTAMP.format(arrived)).append(',')
+                    .append(25 + random.nextInt(300)).append(',')
+                    .append(random.nextInt(4)).append(',')
+                    .append(statusRoll < 70 ? "AVAILABLE" : statusRoll < 95 ? "ADOPTED" : "REMOVED")
+                    .append('\n');
+        }
+        return csv.toString();
+    }
+
+    private String fosterCsv(int from, int to) {
+        Random random = new Random(config.seed() * 37 + from);
+        StringBuilder csv = new StringBuilder((to - from) * 160);
+        csv.append("Name,Last Name,Phone,Address,Email,Latitude,Longitude,FosterSince,Active,MaxPets,")
+                .append("PreferredSpecies\n");
+        for (int i = from; i < to; i++) {
+            csv.append("Foster").append(',')
+                    .append(i).append(',')
+                    .append("555-").append(1000 + random.nextInt(9000)).append(',')
+                    .append(1 + random.nextInt(9999)).append(" Main St").append(',')
+                    .append("foster").append(i).append("@loadtest.example").append(',')
+                    .append(28 + random.nextInt(100_000) / 100_000.0).append(',')
+                    .append(-82 + random.nextInt(100_000) / 100_000.0).append(',')
+                    .append(TIMESTAMP.format(NEWEST_ARRIVAL.minusDays(random.nextInt(5 * 365)))).append("Z,")
+                    .append(random.nextInt(10) > 0).append(',')
+                    .append(1 + random.nextInt(5)).append(',')
+                    .append(random.nextInt(3) == 0 ? SPECIES[random.nextInt(SPECIES.length)] : "")
+                    .append('\n');
+        }
+        return csv.toString();
+    }
+
+    private static ByteArrayInputStream stream(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
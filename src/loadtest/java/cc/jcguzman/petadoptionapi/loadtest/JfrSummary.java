@@ -0,0 +1,124 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Summarises this application's events in a flight recording: per event type and key (route,
+ * service method, serialized type) the count, latency percentiles in milliseconds and the
+ * summed entities, SQL statements and bytes. The recording is read from {@code jfr.file}:
+ * <pre>
+ * java -XX:StartFlightRecording=filename=app.jfr -jar target/pet-adoption-api-0.0.1-SNAPSHOT.war
+ * mvn -Pload-test -DskipTests test-compile exec:java@jfr -Djfr.file=app.jfr
+ * </pre>
+ * For single events, {@code jfr print --events cc.jcguzman.petadoptionapi.ServiceCall app.jfr}
+ * lists them with all fields.
+ */
+public final class JfrSummary {
+
+    private static final String PREFIX = "cc.jcguzman.petadoptionapi.";
+
+    private static final class Group {
+
+        private long[] nanos = new long[16];
+        private int count;
+        private long entities;
+        private long statements;
+        private long bytes;
+
+        void add(RecordedEvent event) {
+            if (count == nanos.length) {
+                nanos = Arrays.copyOf(nanos, count * 2);
+            }
+            nanos[count++] = event.getDuration().toNanos();
+            entities += sum(event, "entities");
+            statements += sum(event, "statements");
+            bytes += sum(event, "bytes");
+        }
+
+        private static long sum(RecordedEvent event, String field) {
+            return event.hasField(field) ? event.getLong(field) : 0;
+        }
+    }
+
+    private JfrSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path file = Path.of(System.getProperty("jfr.file", "app.jfr"));
+
+        Map<String, Map<String, Group>> groups = new TreeMap<>();
+        try (RecordingFile recording = new RecordingFile(file)) {
+            while (recording.hasMoreEvents()) {
+                RecordedEvent event = recording.readEvent();
+                String name = event.getEventType().getName();
+                if (name.startsWith(PREFIX)) {
+                    groups.computeIfAbsent(name.substring(PREFIX.length()), type -> new TreeMap<>())
+                            .computeIfAbsent(key(event), key -> new Group())
+                            .add(event);
+                }
+            }
+        }
+
+        if (groups.isEmpty()) {
+            System.out.println("No " + PREFIX + "* events in " + file);
+            return;
+        }
+        print(groups, System.out);
+    }
+
+    private static String key(RecordedEvent event) {
+        return switch (event.getEventType().getName().substring(PREFIX.length())) {
+            case "HttpRequest" -> event.getString("method") + " " + event.getString("route");
+            case "ApiKeyCheck" -> event.getString("path") + (event.getBoolean("accepted") ? "" : " rejected");
+            case "ServiceCall" -> event.getString("service") + "." + event.getString("method")
+                    + (event.getBoolean("failed") ? " failed" : "");
+            case "Serialization" -> event.getString("format") + " " + event.getString("direction") + " "
+                    + event.getString("type");
+            default -> "";
+        };
+    }
+
+    private static void print(Map<String, Map<String, Group>> groups, PrintStream out) {
+        for (Map.Entry<String, Map<String, Group>> type : groups.entrySet()) {
+            out.printf("%n%s%n%-48s %8s %10s %8s %8s %8s %8s %10s %10s %12s%n", type.getKey(), "key", "count",
+                    "total ms", "mean ms", "p50 ms", "p99 ms", "max ms", "entities", "statements", "bytes");
+            List<Map.Entry<String, Group>> rows = new ArrayList<>(type.getValue().entrySet());
+            // Biggest total first: that is where the time went
+            rows.sort((a, b) -> Long.compare(total(b.getValue()), total(a.getValue())));
+            for (Map.Entry<String, Group> row : rows) {
+                Group group = row.getValue();
+                long[] nanos = Arrays.copyOf(group.nanos, group.count);
+                Arrays.sort(nanos);
+                long total = total(group);
+                out.printf("%-48s %8d %10.1f %8.2f %8.2f %8.2f %8.2f %10d %10d %12d%n", row.getKey(), group.count,
+                        total / 1e6, total / 1e6 / group.count, percentile(nanos, 50) / 1e6,
+                        percentile(nanos, 99) / 1e6, nanos[nanos.length - 1] / 1e6,
+                        group.entities, group.statements, group.bytes);
+            }
+        }
+    }
+
+    private static long total(Group group) {
+        long total = 0;
+        for (int i = 0; i < group.count; i++) {
+            total += group.nanos[i];
+        }
+        return total;
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -0,0 +1,165 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import cc.jcguzman.petadoptionapi.loadtest.Scenarios.Scenario;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives the scenarios from a fixed set of worker threads and records each scenario's
+ * latencies in microseconds. With a target rate every worker sends on a fixed schedule and
+ * latency is measured from the time a request was due, not when it was sent, so a stalled
+ * server shows up in the percentiles instead of silently lowering the request count.
+ */
+class LoadGenerator {
+
+    /** Outcomes counted per scenario, by status class; ERROR is a request that got no response. */
+    enum Outcome {
+        SUCCESS, REDIRECT, CLIENT_ERROR, SERVER_ERROR, ERROR;
+
+        static Outcome of(int status) {
+            if (status >= 500) {
+                return SERVER_ERROR;
+            }
+            if (status >= 400) {
+                return CLIENT_ERROR;
+            }
+            return status >= 300 ? REDIRECT : SUCCESS;
+        }
+    }
+
+    /** What one scenario saw during the measured period. */
+    record ScenarioResult(Scenario scenario, Histogram latencies, long[] outcomes) {
+    }
+
+    private final HttpClient client;
+    private final List<Scenario> scenarios;
+    private final LoadTestConfig config;
+    private final int[] cumulativeWeights;
+
+    LoadGenerator(HttpClient client, List<Scenario> scenarios, LoadTestConfig config) {
+        this.client = client;
+        this.scenarios = scenarios;
+        this.config = config;
+        this.cumulativeWeights = new int[scenarios.size()];
+        int total = 0;
+        for (int i = 0; i < scenarios.size(); i++) {
+            total += scenarios.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    List<ScenarioResult> run() throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long measureUntil = measureFrom + config.duration().toNanos();
+
+        List<Worker> workers = new ArrayList<>(config.workers());
+        List<Thread> threads = new ArrayList<>(config.workers());
+        for (int i = 0; i < config.workers(); i++) {
+            Worker worker = new Worker(i, start, measureFrom, measureUntil);
+            workers.add(worker);
+            Thread thread = new Thread(worker, "load-worker-" + i);
+            thread.setDaemon(true);
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        List<ScenarioResult> results = new ArrayList<>(scenarios.size());
+        for (int s = 0; s < scenarios.size(); s++) {
+            Histogram latencies = new Histogram(3);
+            long[] outcomes = new long[Outcome.values().length];
+            for (Worker worker : workers) {
+                latencies.add(worker.latencies[s]);
+                for (int o = 0; o < outcomes.length; o++) {
+                    outcomes[o] += worker.outcomes[s][o];
+                }
+            }
+            results.add(new ScenarioResult(scenarios.get(s), latencies, outcomes));
+        }
+        return results;
+    }
+
+    private int pick(Random random) {
+        int roll = random.nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (roll < cumulativeWeights[i]) {
+                return i;
+            }
+        }
+        throw new IllegalStateException("Weights do not cover roll " + roll);
+    }
+
+    private class Worker implements Runnable {
+
+        private final Random random;
+        private final long start;
+        private final long measureFrom;
+        private final long measureUntil;
+        private final long interval;
+        private final Histogram[] latencies = new Histogram[scenarios.size()];
+        private final long[][] outcomes = new long[scenarios.size()][Outcome.values().length];
+
+        Worker(int index, long start, long measureFrom, long measureUntil) {
+            this.random = new Random(config.seed() * 41 + index);
+            this.measureFrom = measureFrom;
+            this.measureUntil = measureUntil;
+            this.interval = config.rate() > 0 ? (long) (config.workers() * 1e9 / config.rate()) : 0;
+            // Spread the workers' schedules over one interval rather than firing them together
+            this.start = start + (interval > 0 ? interval * index / config.workers() : 0);
+            for (int s = 0; s < latencies.length; s++) {
+                latencies[s] = new Histogram(3);
+            }
+        }
+
+        @Override
+        public void run() {
+            long due = start;
+            while (true) {
+                if (interval > 0) {
+                    long wait;
+                    while ((wait = due - System.nanoTime()) > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                } else {
+                    due = System.nanoTime();
+                }
+                if (due >= measureUntil) {
+                    return;
+                }
+
+                int s = pick(random);
+                Outcome outcome;
+                try {
+                    HttpResponse<Void> response = client.send(scenarios.get(s).factory().create(random),
+                            HttpResponse.BodyHandlers.discarding());
+                    outcome = Outcome.of(response.statusCode());
+                } catch (IOException e) {
+                    outcome = Outcome.ERROR;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                long finished = System.nanoTime();
+
+                if (due >= measureFrom) {
+                    outcomes[s][outcome.ordinal()]++;
+                    if (outcome != Outcome.ERROR) {
+                        latencies[s].recordValue(TimeUnit.NANOSECONDS.toMicros(finished - due));
+                    }
+                }
+                due += interval;
+            }
+        }
+    }
+}
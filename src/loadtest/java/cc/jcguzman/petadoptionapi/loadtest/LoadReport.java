@@ -0,0 +1,115 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import cc.jcguzman.petadoptionapi.loadtest.LoadGenerator.Outcome;
+import cc.jcguzman.petadoptionapi.loadtest.LoadGenerator.ScenarioResult;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Results of one load test run, written as JSON for tooling and printed as a table.
+ * Latencies are in milliseconds and throughput is in completed requests per second
+ * over the measured period.
+ */
+record LoadReport(Instant finishedAt, Settings settings, Seeding seeding, List<Endpoint> endpoints, Endpoint total) {
+
+    record Settings(int workers, double targetRate, String model, long warmupSeconds, long durationSeconds,
+                    long seed, Map<String, Integer> weights) {
+    }
+
+    record Seeding(int pets, int fosters, long elapsedMillis) {
+    }
+
+    record Endpoint(String scenario, String route, long requests, double throughput,
+                    Map<Outcome, Long> outcomes, Latency latency) {
+    }
+
+    record Latency(double mean, double p50, double p90, double p99, double p999, double max) {
+
+        static Latency of(Histogram histogram) {
+            return new Latency(
+                    histogram.getMean() / 1000.0,
+                    millis(histogram, 50),
+                    millis(histogram, 90),
+                    millis(histogram, 99),
+                    millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+        }
+
+        private static double millis(Histogram histogram, double percentile) {
+            return histogram.getValueAtPercentile(percentile) / 1000.0;
+        }
+    }
+
+    static LoadReport of(LoadTestConfig config, long seedingMillis, List<ScenarioResult> results) {
+        double seconds = config.duration().toMillis() / 1000.0;
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        List<Endpoint> endpoints = new ArrayList<>();
+        Histogram allLatencies = new Histogram(3);
+        long[] allOutcomes = new long[Outcome.values().length];
+        for (ScenarioResult result : results) {
+            weights.put(result.scenario().name(), result.scenario().weight());
+            endpoints.add(endpoint(result.scenario().name(), result.scenario().route(),
+                    result.latencies(), result.outcomes(), seconds));
+            allLatencies.add(result.latencies());
+            for (int o = 0; o < allOutcomes.length; o++) {
+                allOutcomes[o] += result.outcomes()[o];
+            }
+        }
+
+        Settings settings = new Settings(config.workers(), config.rate(), config.rate() > 0 ? "open" : "closed",
+                config.warmup().toSeconds(), config.duration().toSeconds(), config.seed(), weights);
+        return new LoadReport(Instant.now(), settings,
+                new Seeding(config.pets(), config.fosters(), seedingMillis),
+                endpoints, endpoint("total", "all", allLatencies, allOutcomes, seconds));
+    }
+
+    private static Endpoint endpoint(String name, String route, Histogram latencies, long[] outcomes,
+                                     double seconds) {
+        Map<Outcome, Long> counts = new EnumMap<>(Outcome.class);
+        long requests = 0;
+        for (Outcome outcome : Outcome.values()) {
+            counts.put(outcome, outcomes[outcome.ordinal()]);
+            requests += outcomes[outcome.ordinal()];
+        }
+        return new Endpoint(name, route, requests, latencies.getTotalCount() / seconds, counts,
+                Latency.of(latencies));
+    }
+
+    void write(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        new ObjectMapper()
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(file.toFile(), this);
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%-22s %9s %9s %8s %8s %8s %8s %9s %9s %6s %6s%n", "scenario", "requests", "req/s",
+                "mean ms", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms", "4xx", "5xx+");
+        List<Endpoint> rows = new ArrayList<>(endpoints);
+        rows.add(total);
+        for (Endpoint endpoint : rows) {
+            Latency latency = endpoint.latency();
+            Map<Outcome, Long> outcomes = endpoint.outcomes();
+            out.printf("%-22s %9d %9.1f %8.2f %8.2f %8.2f %8.2f %9.2f %9.2f %6d %6d%n", endpoint.scenario(),
+                    endpoint.requests(), endpoint.throughput(), latency.mean(), latency.p50(), latency.p90(),
+                    latency.p99(), latency.p999(), latency.max(), outcomes.get(Outcome.CLIENT_ERROR),
+                    outcomes.get(Outcome.SERVER_ERROR) + outcomes.get(Outcome.ERROR));
+        }
+    }
+}
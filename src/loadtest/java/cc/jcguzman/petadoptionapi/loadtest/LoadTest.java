@@ -0,0 +1,95 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import cc.jcguzman.petadoptionapi.PetAdoptionApiApplication;
+import cc.jcguzman.petadoptionapi.loadtest.Scenarios.IdRange;
+import cc.jcguzman.petadoptionapi.service.ApiKeyService;
+import cc.jcguzman.petadoptionapi.service.FosterCsvService;
+import cc.jcguzman.petadoptionapi.service.PetCsvService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * End-to-end load test: boots the application on a random port, seeds a synthetic dataset,
+ * drives the scenario mix over HTTP and reports per-endpoint latency percentiles and
+ * throughput. Run it with {@code mvn -Pload-test}; see {@link LoadTestConfig} for the
+ * {@code loadtest.*} settings. Any application property can be overridden the same way,
+ * e.g. {@code -Dspring.datasource.hikari.maximum-pool-size=20}.
+ * <p>
+ * The load generator shares the JVM with the application, so leave it some headroom.
+ */
+@Slf4j
+public final class LoadTest {
+
+    /**
+     * Applied unless set on the command line: a private database, quiet SQL logging and no
+     * waitlist auto-assignment, which would otherwise place the seeded pets in the background
+     * while the load runs. Pass {@code -Dwaitlist.auto-assign.enabled=true} to measure with it.
+     */
+    static final Map<String, String> DEFAULT_PROPERTIES = Map.of(
+            "server.port", "0",
+            "management.server.port", "0",
+            "spring.datasource.url", "jdbc:h2:mem:loadtest",
+            "spring.jpa.show-sql", "false",
+            "waitlist.auto-assign.enabled", "false",
+            "spring.main.banner-mode", "off",
+            "logging.level.org.hibernate.SQL", "WARN",
+            "logging.level.org.hibernate.type.descriptor.sql.BasicBinder", "WARN",
+            "logging.level.cc.jcguzman.petadoptionapi", "INFO");
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        // System properties outrank application.properties, so these take effect
+        DEFAULT_PROPERTIES.forEach(System.getProperties()::putIfAbsent);
+
+        try (ConfigurableApplicationContext context =
+                     new SpringApplicationBuilder(PetAdoptionApiApplication.class).run(args)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+            log.info("Seeding {} pets and {} fosters", config.pets(), config.fosters());
+            long seedingStart = System.nanoTime();
+            new DatasetSeeder(context.getBean(PetCsvService.class), context.getBean(FosterCsvService.class), config)
+                    .seed();
+            long seedingMillis = Duration.ofNanos(System.nanoTime() - seedingStart).toMillis();
+            log.info("Seeded in {} ms", seedingMillis);
+
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            String apiKey = context.getBean(ApiKeyService.class)
+                    .generateKey("Load test", "load-test", null)
+                    .getKeyValue();
+            List<Scenarios.Scenario> scenarios = Scenarios.create(URI.create("http://localhost:" + port),
+                    apiKey, idRange(jdbcTemplate, "pets"), idRange(jdbcTemplate, "fosters"),
+                    jdbcTemplate.queryForObject("SELECT MAX(change_seq) FROM pets", Long.class),
+                    config.mix());
+
+            HttpClient client = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(10))
+                    .build();
+            log.info("Running {} workers for {} after {} warmup", config.workers(), config.duration(),
+                    config.warmup());
+            LoadReport report = LoadReport.of(config, seedingMillis,
+                    new LoadGenerator(client, scenarios, config).run());
+
+            report.write(config.output());
+            report.print(System.out);
+            log.info("Results written to {}", config.output().toAbsolutePath());
+        }
+    }
+
+    private static IdRange idRange(JdbcTemplate jdbcTemplate, String table) {
+        return jdbcTemplate.queryForObject("SELECT MIN(id), MAX(id) FROM " + table,
+                (rs, rowNum) -> new IdRange(rs.getLong(1), rs.getLong(2)));
+    }
+}
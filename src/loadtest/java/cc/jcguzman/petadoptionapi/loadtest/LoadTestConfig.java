@@ -0,0 +1,61 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load test settings, read from {@code loadtest.*} system properties.
+ *
+ * @param pets       synthetic pets to seed
+ * @param fosters    synthetic fosters to seed
+ * @param seed       seed for the dataset and the request mix; equal seeds give equal runs
+ * @param seedThreads threads generating and importing the dataset
+ * @param workers    concurrent load generator workers
+ * @param rate       total requests per second across all workers, or 0 for a closed loop
+ *                   where each worker sends its next request as soon as the last one returns
+ * @param warmup     time to run before latencies are recorded
+ * @param duration   time to record latencies for
+ * @param output     where the JSON results are written
+ * @param mix        scenario weights overriding the defaults in {@link Scenarios}
+ */
+record LoadTestConfig(int pets, int fosters, long seed, int seedThreads, int workers, double rate,
+                      Duration warmup, Duration duration, Path output, Map<String, Integer> mix) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.pets", 1_000_000),
+                Integer.getInteger("loadtest.fosters", 50_000),
+                Long.getLong("loadtest.seed", 42),
+                Integer.getInteger("loadtest.seed-threads", Runtime.getRuntime().availableProcessors()),
+                Integer.getInteger("loadtest.workers", 32),
+                Double.parseDouble(System.getProperty("loadtest.rate", "0")),
+                duration("loadtest.warmup", "30s"),
+                duration("loadtest.duration", "2m"),
+                Path.of(System.getProperty("loadtest.output", "target/load-test/results.json")),
+                mix(System.getProperty("loadtest.mix", "")));
+    }
+
+    private static Duration duration(String property, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(property, defaultValue));
+    }
+
+    /** Parses {@code name=weight,name=weight}; a weight of 0 drops the scenario. */
+    private static Map<String, Integer> mix(String value) {
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        for (String entry : value.split(",")) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            String[] parts = entry.split("=", 2);
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("loadtest.mix entries must look like name=weight: " + entry);
+            }
+            weights.put(parts[0].trim(), Integer.parseInt(parts[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,143 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * The request mix: weighted scenarios, one per endpoint, about four reads to every write.
+ * Endpoints that return a whole table, such as {@code GET /api/v1/pets}, are left out,
+ * since at load test sizes they measure the dataset rather than the service.
+ */
+final class Scenarios {
+
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit", "Bird", "Guinea Pig"};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    /** Picks a request for one scenario; called with the worker's own random. */
+    interface RequestFactory {
+        HttpRequest create(Random random);
+    }
+
+    record Scenario(String name, String route, int weight, RequestFactory factory) {
+    }
+
+    /** An inclusive range of ids to pick requests' target rows from. */
+    record IdRange(long min, long max) {
+        long pick(Random random) {
+            return min + (long) (random.nextDouble() * (max - min + 1));
+        }
+    }
+
+    private final URI baseUri;
+    private final String apiKey;
+
+    private Scenarios(URI baseUri, String apiKey) {
+        this.baseUri = baseUri;
+        this.apiKey = apiKey;
+    }
+
+    static List<Scenario> create(URI baseUri, String apiKey, IdRange pets, IdRange fosters, long lastChangeSeq,
+                                 Map<String, Integer> mix) {
+        Scenarios s = new Scenarios(baseUri, apiKey);
+        List<Scenario> defaults = List.of(
+                new Scenario("pet-by-id", "GET /api/v1/pets/{id}", 30,
+                        random -> s.get("/api/v1/pets/" + pets.pick(random))),
+                new Scenario("pets-by-ids", "GET /api/v1/pets?ids=", 8,
+                        random -> s.get("/api/v1/pets?ids=" + ids(pets, random, 10))),
+                new Scenario("pet-history", "GET /api/v1/pets/{id}/history", 5,
+                        random -> s.get("/api/v1/pets/" + pets.pick(random) + "/history")),
+                new Scenario("pet-recommendations", "GET /api/v1/pets/recommendations", 3,
+                        random -> s.get("/api/v1/pets/recommendations?species="
+                                + SPECIES[random.nextInt(SPECIES.length)].replace(" ", "%20")
+                                + "&budget=" + (50 + random.nextInt(250)))),
+                new Scenario("foster-by-id", "GET /api/v1/fosters/{id}", 10,
+                        random -> s.get("/api/v1/fosters/" + fosters.pick(random))),
+                new Scenario("fosters-nearby", "GET /api/v1/fosters/nearby", 8,
+                        random -> s.get(String.format(Locale.ROOT,
+                                "/api/v1/fosters/nearby?lat=%.5f&lon=%.5f&radiusKm=10",
+                                28 + random.nextDouble(), -82 + random.nextDouble()))),
+                new Scenario("stats", "GET /api/v1/stats", 5,
+                        random -> s.get("/api/v1/stats")),
+                new Scenario("pet-report", "GET /api/v1/reports/pets", 3,
+                        random -> s.get("/api/v1/reports/pets?groupBy=SPECIES&groupBy=STATUS&percentiles=50,90")),
+                new Scenario("sync", "GET /api/v1/sync", 6,
+                        random -> s.get("/api/v1/sync?limit=100&since="
+                                + (long) (random.nextDouble() * lastChangeSeq))),
+                new Scenario("create-pet", "POST /api/v1/pets", 8,
+                        random -> s.post("/api/v1/pets", petJson(random))),
+                new Scenario("update-pet-status", "PUT /api/v1/pets/{id}/status", 8,
+                        random -> s.put("/api/v1/pets/" + pets.pick(random) + "/status?status="
+                                + (random.nextBoolean() ? "ADOPTED" : "AVAILABLE"))),
+                new Scenario("assign-pet", "POST /api/v1/fosters/{fosterId}/pets/{petId}", 6,
+                        random -> s.post("/api/v1/fosters/" + fosters.pick(random) + "/pets/" + pets.pick(random),
+                                null)));
+
+        Set<String> unknown = new HashSet<>(mix.keySet());
+        List<Scenario> scenarios = new ArrayList<>();
+        for (Scenario scenario : defaults) {
+            unknown.remove(scenario.name());
+            int weight = mix.getOrDefault(scenario.name(), scenario.weight());
+            if (weight > 0) {
+                scenarios.add(new Scenario(scenario.name(), scenario.route(), weight, scenario.factory()));
+            }
+        }
+        if (!unknown.isEmpty()) {
+            throw new IllegalArgumentException("Unknown scenarios in loadtest.mix: " + unknown);
+        }
+        if (scenarios.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix leaves no scenarios to run");
+        }
+        return scenarios;
+    }
+
+    private HttpRequest get(String path) {
+        return request(path).GET().build();
+    }
+
+    private HttpRequest post(String path, String json) {
+        HttpRequest.Builder builder = request(path);
+        if (json == null) {
+            return builder.POST(HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+    }
+
+    private HttpRequest put(String path) {
+        return request(path).PUT(HttpRequest.BodyPublishers.noBody()).build();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("X-API-KEY", apiKey)
+                .header("Accept", "application/json");
+    }
+
+    private static String ids(IdRange range, Random random, int count) {
+        StringJoiner ids = new StringJoiner(",");
+        for (int i = 0; i < count; i++) {
+            ids.add(Long.toString(range.pick(random)));
+        }
+        return ids.toString();
+    }
+
+    private static String petJson(Random random) {
+        return String.format(Locale.ROOT,
+                "{\"Name\":\"Load %d\",\"Species\":\"%s\",\"Breed\":\"Mixed\",\"Age\":%d,"
+                        + "\"Gender\":\"%s\",\"Weight\":%.1f,\"Color\":\"Brown\",\"Adoption_Fee\":%d,\"Urgency\":%d}",
+                random.nextInt(1_000_000), SPECIES[random.nextInt(SPECIES.length)], random.nextInt(16),
+                random.nextBoolean() ? "Male" : "Female", 1 + random.nextDouble() * 40,
+                25 + random.nextInt(300), random.nextInt(4));
+    }
+}
@@ -0,0 +1,169 @@
+package cc.jcguzman.petadoptionapi.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Offline tail latency analysis of the span file the application writes (see
+ * {@code TracingConfig}). It picks the traces whose server span has the given route, prints
+ * their latency percentiles, and then, per span name, the mean time per trace across all of
+ * them and across the tail, the traces at or above the {@code traces.tail} percentile. A
+ * span that grows much more in the tail than elsewhere is where the tail comes from. Spans
+ * nest, so a service's time includes its repositories' and shares do not add up to 100%.
+ * <p>
+ * Run it with {@code mvn -Pload-test -DskipTests test-compile exec:java@traces}. Settings
+ * are {@code traces.*} system properties: files (comma separated, rolled {@code .gz} files
+ * included), route, method and tail.
+ */
+public final class TraceSummary {
+
+    private static final int LISTED_TRACES = 5;
+
+    private record Span(String traceId, String spanId, String parentSpanId, String name, long nanos,
+                        String uri, String method) {
+    }
+
+    private record Trace(String traceId, long nanos, Map<String, Long> nanosByName) {
+    }
+
+    private TraceSummary() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> files = Arrays.stream(System.getProperty("traces.files", "traces/spans.jsonl").split(","))
+                .map(String::trim)
+                .map(Path::of)
+                .toList();
+        String route = System.getProperty("traces.route", "/api/v1/fosters/{fosterId}/pets/{petId}");
+        String method = System.getProperty("traces.method");
+        double tail = Double.parseDouble(System.getProperty("traces.tail", "99"));
+
+        Map<String, List<Span>> spansByTrace = new HashMap<>();
+        for (Path file : files) {
+            read(file, spansByTrace);
+        }
+
+        List<Trace> traces = new ArrayList<>();
+        for (List<Span> spans : spansByTrace.values()) {
+            Span root = spans.stream().filter(span -> span.parentSpanId() == null).findFirst().orElse(null);
+            if (root != null && route.equals(root.uri())
+                    && (method == null || method.equalsIgnoreCase(root.method()))) {
+                Map<String, Long> nanosByName = new LinkedHashMap<>();
+                for (Span span : spans) {
+                    if (span != root) {
+                        nanosByName.merge(span.name(), span.nanos(), Long::sum);
+                    }
+                }
+                traces.add(new Trace(root.traceId(), root.nanos(), nanosByName));
+            }
+        }
+        if (traces.isEmpty()) {
+            System.out.printf("No traces of %s %s in %s%n", method != null ? method : "any method", route, files);
+            return;
+        }
+
+        traces.sort((a, b) -> Long.compare(a.nanos(), b.nanos()));
+        long[] latencies = traces.stream().mapToLong(Trace::nanos).toArray();
+        long tailFrom = percentile(latencies, tail);
+        List<Trace> tailTraces = traces.stream().filter(trace -> trace.nanos() >= tailFrom).toList();
+
+        System.out.printf("%n%d traces of %s %s%n", traces.size(), method != null ? method : "any method", route);
+        System.out.printf("p50 %.2f ms, p90 %.2f ms, p99 %.2f ms, p99.9 %.2f ms, max %.2f ms%n",
+                percentile(latencies, 50) / 1e6, percentile(latencies, 90) / 1e6, percentile(latencies, 99) / 1e6,
+                percentile(latencies, 99.9) / 1e6, latencies[latencies.length - 1] / 1e6);
+        System.out.printf("Tail: %d traces at or above p%s, %.2f ms%n", tailTraces.size(), tail, tailFrom / 1e6);
+
+        Map<String, Long> all = totals(traces);
+        Map<String, Long> inTail = totals(tailTraces);
+        double tailMean = tailTraces.stream().mapToLong(Trace::nanos).average().orElse(0);
+        List<String> names = new ArrayList<>(all.keySet());
+        // Most time in the tail first
+        names.sort((a, b) -> Long.compare(inTail.getOrDefault(b, 0L), inTail.getOrDefault(a, 0L)));
+
+        System.out.printf("%n%-56s %12s %12s %10s %12s%n", "span", "all ms/req", "tail ms/req", "growth",
+                "tail share");
+        for (String name : names) {
+            double allMean = all.get(name) / 1e6 / traces.size();
+            double tailSpanMean = inTail.getOrDefault(name, 0L) / 1e6 / tailTraces.size();
+            System.out.printf("%-56s %12.2f %12.2f %9.1fx %11.1f%%%n", name, allMean, tailSpanMean,
+                    allMean > 0 ? tailSpanMean / allMean : 0, 100 * tailSpanMean * 1e6 / tailMean);
+        }
+
+        System.out.printf("%nSlowest traces:%n");
+        for (int i = traces.size() - 1; i >= Math.max(0, traces.size() - LISTED_TRACES); i--) {
+            System.out.printf("  %s %.2f ms%n", traces.get(i).traceId(), traces.get(i).nanos() / 1e6);
+        }
+    }
+
+    private static void read(Path file, Map<String, List<Span>> spansByTrace) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        InputStream in = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                for (JsonNode resourceSpans : mapper.readTree(line).path("resourceSpans")) {
+                    for (JsonNode scopeSpans : resourceSpans.path("scopeSpans")) {
+                        for (JsonNode span : scopeSpans.path("spans")) {
+                            Span parsed = span(span);
+                            spansByTrace.computeIfAbsent(parsed.traceId(), id -> new ArrayList<>()).add(parsed);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static Span span(JsonNode span) {
+        String uri = null;
+        String method = null;
+        for (JsonNode attribute : span.path("attributes")) {
+            switch (attribute.path("key").asText()) {
+                case "uri" -> uri = attribute.path("value").path("stringValue").asText();
+                case "method" -> method = attribute.path("value").path("stringValue").asText();
+                default -> {
+                }
+            }
+        }
+        String parent = span.path("parentSpanId").asText("");
+        // Start and end are strings in OTLP/JSON, since they overflow JavaScript numbers
+        long nanos = Long.parseLong(span.path("endTimeUnixNano").asText())
+                - Long.parseLong(span.path("startTimeUnixNano").asText());
+        return new Span(span.path("traceId").asText(), span.path("spanId").asText(),
+                parent.isEmpty() ? null : parent, span.path("name").asText(), nanos, uri, method);
+    }
+
+    private static Map<String, Long> totals(List<Trace> traces) {
+        Map<String, Long> totals = new HashMap<>();
+        for (Trace trace : traces) {
+            trace.nanosByName().forEach((name, nanos) -> totals.merge(name, nanos, Long::sum));
+        }
+        return totals;
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    private static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.max(rank, 1) - 1];
+    }
+}
@@ -2,8 +2,10 @@ package cc.jcguzman.petadoptionapi;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class PetAdoptionApiApplication {
 
     public static void main(String[] args) {
@@ -1,20 +1,35 @@
 package cc.jcguzman.petadoptionapi.config;
 
+import cc.jcguzman.petadoptionapi.jfr.ApiKeyCheckEvent;
 import cc.jcguzman.petadoptionapi.service.ApiKeyService;
+import cc.jcguzman.petadoptionapi.tracing.ChildSpans;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
 @Configuration
 @RequiredArgsConstructor
 public class ApiKeyConfig implements WebMvcConfigurer {
 
     private final ApiKeyService apiKeyService;
+    private final MeterRegistry meterRegistry;
+    private final Tracer tracer;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
@@ -27,15 +42,77 @@ public class ApiKeyConfig implements WebMvcConfigurer {
                 );
     }
 
+    private enum Outcome {
+        EXEMPT, ACCEPTED, MISSING, INVALID
+    }
+
+    /**
+     * Time spent here is recorded as {@code api.key.interceptor{outcome}}; its share of
+     * request time is that timer's total over {@code http.server.requests}. While a flight
+     * recording is running each check is also an {@link ApiKeyCheckEvent}, and inside a
+     * sampled trace it is an {@code ApiKeyInterceptor.preHandle} span.
+     */
     private class ApiKeyInterceptor implements HandlerInterceptor {
+
+        private final Map<Outcome, Timer> timers = new EnumMap<>(Outcome.class);
+
+        ApiKeyInterceptor() {
+            for (Outcome outcome : Outcome.values()) {
+                // Exempt paths are accepted without a lookup, so they share the accepted timer
+                if (outcome == Outcome.EXEMPT) {
+                    continue;
+                }
+                timers.put(outcome, Timer.builder("api.key.interceptor")
+                        .description("Time spent checking API keys")
+                        .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                        .register(meterRegistry));
+            }
+        }
+
         @Override
         public boolean preHandle(HttpServletRequest request, HttpServletResponse response,
                                  Object handler) throws Exception {
+            ApiKeyCheckEvent event = new ApiKeyCheckEvent();
+            event.begin();
+            Span span = ChildSpans.start(tracer, "ApiKeyInterceptor.preHandle");
+            long start = System.nanoTime();
+            Outcome outcome;
+            // In scope, so the key lookup's spans nest under this one
+            try (Tracer.SpanInScope scope = span != null ? tracer.withSpan(span) : null) {
+                outcome = check(request, response);
+                if (span != null) {
+                    span.tag("outcome", outcome.name().toLowerCase(Locale.ROOT));
+                }
+            } finally {
+                if (span != null) {
+                    span.end();
+                }
+            }
+            long elapsed = System.nanoTime() - start;
+            boolean accepted = outcome == Outcome.EXEMPT || outcome == Outcome.ACCEPTED;
+            timers.get(accepted ? Outcome.ACCEPTED : outcome).record(elapsed, TimeUnit.NANOSECONDS);
+
+            event.end();
+            if (event.shouldCommit()) {
+                Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                event.route = pattern != null ? pattern.toString() : request.getRequestURI();
+                event.path = switch (outcome) {
+                    case EXEMPT -> "exempt";
+                    case MISSING -> "missing";
+                    case ACCEPTED, INVALID -> "database";
+                };
+                event.accepted = accepted;
+                event.commit();
+            }
+            return accepted;
+        }
+
+        private Outcome check(HttpServletRequest request, HttpServletResponse response) throws IOException {
             String path = request.getRequestURI();
             if (path.startsWith("/swagger-ui/") ||
                     path.startsWith("/v3/api-docs/") ||
                     path.equals("/api/v1/keys/generate")) {
-                return true;
+                return Outcome.EXEMPT;
             }
 
             String providedApiKey = request.getHeader("X-API-KEY");
@@ -43,16 +120,16 @@ public class ApiKeyConfig implements WebMvcConfigurer {
             if (providedApiKey == null) {
                 response.setStatus(HttpStatus.UNAUTHORIZED.value());
                 response.getWriter().write("API key is missing");
-                return false;
+                return Outcome.MISSING;
             }
 
             if (!apiKeyService.validateKey(providedApiKey)) {
                 response.setStatus(HttpStatus.UNAUTHORIZED.value());
                 response.getWriter().write("Invalid or expired API key");
-                return false;
+                return Outcome.INVALID;
             }
 
-            return true;
+            return Outcome.ACCEPTED;
         }
     }
 }
\ No newline at end of file
@@ -47,13 +47,13 @@ public class DataInitializer {
             ));
 
             // Create fosters
-            Foster foster1 = createFoster("John", "Doe", "john.doe@example.com", "555-0123", "123 Main St", 3);
-            Foster foster2 = createFoster("Jane", "Smith", "jane.smith@example.com", "555-0124", "456 Oak Ave", 2);
-            Foster foster3 = createFoster("Robert", "Johnson", "robert.j@example.com", "555-0125", "789 Pine Rd", 4);
-            Foster foster4 = createFoster("Maria", "Garcia", "maria.g@example.com", "555-0126", "321 Elm St", 2);
-            Foster foster5 = createFoster("David", "Wilson", "david.w@example.com", "555-0127", "654 Maple Dr", 3);
-            Foster foster6 = createFoster("Sarah", "Brown", "sarah.b@example.com", "555-0128", "987 Cedar Ln", 5);
-            Foster foster7 = createFoster("Michael", "Taylor", "michael.t@example.com", "555-0129", "147 Birch Ave", 2);
+            Foster foster1 = createFoster("John", "Doe", "john.doe@example.com", "555-0123", "123 Main St", 3, 28.5383, -81.3792);
+            Foster foster2 = createFoster("Jane", "Smith", "jane.smith@example.com", "555-0124", "456 Oak Ave", 2, 28.6024, -81.2001);
+            Foster foster3 = createFoster("Robert", "Johnson", "robert.j@example.com", "555-0125", "789 Pine Rd", 4, 28.4158, -81.2989);
+            Foster foster4 = createFoster("Maria", "Garcia", "maria.g@example.com", "555-0126", "321 Elm St", 2, 28.5650, -81.5862);
+            Foster foster5 = createFoster("David", "Wilson", "david.w@example.com", "555-0127", "654 Maple Dr", 3, 28.6934, -81.5322);
+            Foster foster6 = createFoster("Sarah", "Brown", "sarah.b@example.com", "555-0128", "987 Cedar Ln", 5, 28.3772, -81.5707);
+            Foster foster7 = createFoster("Michael", "Taylor", "michael.t@example.com", "555-0129", "147 Birch Ave", 2, 28.9005, -81.2637);
 
             // Save all fosters
             fosterRepository.saveAll(List.of(
@@ -98,7 +98,7 @@ public class DataInitializer {
     }
 
     private Foster createFoster(String name, String lastName, String email, String phone,
-                                String address, int maxPets) {
+                                String address, int maxPets, double latitude, double longitude) {
         Foster foster = new Foster();
         foster.setName(name);
         foster.setLastName(lastName);
@@ -106,6 +106,8 @@ public class DataInitializer {
         foster.setPhone(phone);
         foster.setAddress(address);
         foster.setMaxPets(maxPets);
+        foster.setLatitude(latitude);
+        foster.setLongitude(longitude);
         return foster;
     }
 
@@ -0,0 +1,48 @@
+package cc.jcguzman.petadoptionapi.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.io.Resource;
+import org.springframework.util.FileCopyUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.resource.ResourceTransformerChain;
+import org.springframework.web.servlet.resource.ResourceTransformerSupport;
+import org.springframework.web.servlet.resource.TransformedResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Rewrites local {@code src} and {@code href} links in HTML pages to their
+ * content-hashed URLs, the HTML counterpart of Spring's CssLinkResourceTransformer.
+ * Links that no resource handler can resolve (e.g. /swagger-ui.html) are left as-is.
+ * Must not be combined with an EncodedResourceResolver, since it reads the page as text.
+ */
+public class HtmlLinkResourceTransformer extends ResourceTransformerSupport {
+
+    private static final Pattern LOCAL_LINK = Pattern.compile("(src|href)=\"(/[^\"#?]+)\"");
+
+    @Override
+    public Resource transform(HttpServletRequest request, Resource resource,
+                              ResourceTransformerChain transformerChain) throws IOException {
+        resource = transformerChain.transform(request, resource);
+
+        if (!"html".equals(StringUtils.getFilenameExtension(resource.getFilename()))) {
+            return resource;
+        }
+
+        String content = new String(FileCopyUtils.copyToByteArray(resource.getInputStream()), StandardCharsets.UTF_8);
+        Matcher matcher = LOCAL_LINK.matcher(content);
+        StringBuilder result = new StringBuilder(content.length());
+        while (matcher.find()) {
+            String link = matcher.group(2);
+            String resolved = resolveUrlPath(link, request, resource, transformerChain);
+            matcher.appendReplacement(result, Matcher.quoteReplacement(
+                    matcher.group(1) + "=\"" + (resolved != null ? resolved : link) + "\""));
+        }
+        matcher.appendTail(result);
+
+        return new TransformedResource(resource, result.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -6,7 +6,9 @@ import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateTimeSerializer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -16,15 +18,40 @@ public class JacksonConfig {
 
     private static final String DATETIME_FORMAT = "yyyy-MM-dd'T'HH:mm:ss";
 
+    /**
+     * Smile has no constant in {@link org.springframework.http.MediaType}; this matches
+     * the type registered by {@link MappingJackson2SmileHttpMessageConverter}.
+     */
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
     @Bean
     public ObjectMapper objectMapper() {
+        return configure(Jackson2ObjectMapperBuilder.json()).build();
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter() {
+        return new MappingJackson2CborHttpMessageConverter(
+                configure(Jackson2ObjectMapperBuilder.cbor()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter() {
+        return new MappingJackson2SmileHttpMessageConverter(
+                configure(Jackson2ObjectMapperBuilder.smile()).build());
+    }
+
+    /**
+     * Applies the shared date handling to a builder so every wire format
+     * (JSON, XML, CBOR, Smile) renders timestamps the same way.
+     */
+    public static Jackson2ObjectMapperBuilder configure(Jackson2ObjectMapperBuilder builder) {
         JavaTimeModule module = new JavaTimeModule();
         module.addSerializer(LocalDateTime.class,
                 new LocalDateTimeSerializer(DateTimeFormatter.ofPattern(DATETIME_FORMAT)));
 
-        return Jackson2ObjectMapperBuilder.json()
+        return builder
                 .modules(module)
-                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
-                .build();
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
     }
-}
\ No newline at end of file
+}
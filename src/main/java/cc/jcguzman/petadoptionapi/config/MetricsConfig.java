@@ -0,0 +1,41 @@
+package cc.jcguzman.petadoptionapi.config;
+
+import cc.jcguzman.petadoptionapi.metrics.QueryCounter;
+import cc.jcguzman.petadoptionapi.metrics.TimedJsonHttpMessageConverter;
+import cc.jcguzman.petadoptionapi.metrics.TimedXmlHttpMessageConverter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Replaces Spring Boot's JSON and XML converters with timed ones, configured the same
+ * way, so serialization time is reported next to request latency. Metrics are scraped
+ * in Prometheus text format from {@code /actuator/prometheus} on the management port
+ * ({@code management.server.port}), which is kept off the public API. Hibernate reports each
+ * statement it prepares to {@link QueryCounter} for the per-request query budget.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedJsonHttpMessageConverter jsonHttpMessageConverter(ObjectMapper objectMapper,
+                                                                  MeterRegistry registry, Tracer tracer) {
+        return new TimedJsonHttpMessageConverter(objectMapper, registry, tracer);
+    }
+
+    @Bean
+    public TimedXmlHttpMessageConverter xmlHttpMessageConverter(Jackson2ObjectMapperBuilder builder,
+                                                                MeterRegistry registry, Tracer tracer) {
+        return new TimedXmlHttpMessageConverter(builder.createXmlMapper(true).build(), registry, tracer);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer queryCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCounter());
+    }
+}
@@ -0,0 +1,53 @@
+package cc.jcguzman.petadoptionapi.config;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Downstream webhook targets for the transactional outbox and the dispatcher's tuning.
+ * With no destinations configured nothing is written to the outbox.
+ */
+@Data
+@ConfigurationProperties(prefix = "outbox")
+public class OutboxProperties {
+
+    private Map<String, Destination> destinations = new LinkedHashMap<>();
+
+    /** Messages per delivery; each batch is POSTed to the destination as one JSON array. */
+    private int batchSize = 50;
+
+    /** Destinations delivered to in parallel; each destination is drained by one worker at a time. */
+    private int concurrency = 4;
+
+    private Duration pollInterval = Duration.ofSeconds(1);
+
+    /** Attempts before a batch is parked as FAILED so later messages can flow. */
+    private int maxAttempts = 10;
+
+    private Duration initialBackoff = Duration.ofSeconds(1);
+
+    private Duration maxBackoff = Duration.ofMinutes(5);
+
+    private Duration requestTimeout = Duration.ofSeconds(10);
+
+    @Data
+    public static class Destination {
+
+        private URI url;
+
+        /** Event types delivered to this destination; empty means all. */
+        private Set<ChangeEvent.Type> events = new HashSet<>();
+
+        public boolean accepts(ChangeEvent.Type type) {
+            return events.isEmpty() || events.contains(type);
+        }
+    }
+}
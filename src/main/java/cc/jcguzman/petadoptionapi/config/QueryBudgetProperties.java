@@ -0,0 +1,27 @@
+package cc.jcguzman.petadoptionapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SQL statements a request may run before it is logged and counted as over budget.
+ * Budgets are per route pattern, e.g. {@code query-budget.routes.[/api/v1/pets]=5}.
+ */
+@Data
+@ConfigurationProperties(prefix = "query-budget")
+public class QueryBudgetProperties {
+
+    private boolean enabled = true;
+
+    /** Budget for routes without their own entry. */
+    private int maxStatements = 10;
+
+    private Map<String, Integer> routes = new LinkedHashMap<>();
+
+    public int budgetFor(String route) {
+        return routes.getOrDefault(route, maxStatements);
+    }
+}
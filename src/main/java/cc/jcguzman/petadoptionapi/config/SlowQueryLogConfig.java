@@ -0,0 +1,35 @@
+package cc.jcguzman.petadoptionapi.config;
+
+import cc.jcguzman.petadoptionapi.jdbc.SlowQueryDataSource;
+import cc.jcguzman.petadoptionapi.jdbc.SlowQueryLog;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application's data source so that slow and sampled statements reach the
+ * {@code sql.slow} log, which {@code logback-spring.xml} writes through an asynchronous
+ * appender. The production profile relies on this instead of Hibernate's SQL logging.
+ */
+@Configuration
+public class SlowQueryLogConfig {
+
+    @Bean
+    static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQueryLogProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SlowQueryDataSource)) {
+                    SlowQueryLogProperties settings = properties.getObject();
+                    if (settings.isEnabled()) {
+                        return new SlowQueryDataSource(dataSource, new SlowQueryLog(settings));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package cc.jcguzman.petadoptionapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Which SQL statements are written to the {@code sql.slow} log, with their bind values
+ * and execution time: those taking at least {@code threshold}, plus a random
+ * {@code sampleRate} share of the rest.
+ */
+@Data
+@ConfigurationProperties(prefix = "slow-query-log")
+public class SlowQueryLogProperties {
+
+    private boolean enabled = true;
+
+    private Duration threshold = Duration.ofMillis(200);
+
+    /** Fraction of statements below the threshold logged anyway, from 0 to 1. */
+    private double sampleRate = 0;
+
+    /** Longer statements and bind values are cut off at these lengths. */
+    private int maxSqlLength = 4000;
+
+    private int maxBindLength = 100;
+}
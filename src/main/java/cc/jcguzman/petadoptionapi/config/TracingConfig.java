@@ -0,0 +1,24 @@
+package cc.jcguzman.petadoptionapi.config;
+
+import cc.jcguzman.petadoptionapi.tracing.LayerSpans;
+import cc.jcguzman.petadoptionapi.tracing.OtlpJsonSpanExporter;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Request tracing without a collector. Spring Boot starts a server span for every request,
+ * sampled at the head with probability {@code management.tracing.sampling.probability}
+ * (an incoming sampled {@code traceparent} is always followed). {@link LayerSpans}, the API
+ * key interceptor and the message converters add child spans. Finished spans are exported
+ * in batches by the SDK's batch span processor to {@link OtlpJsonSpanExporter}. When its
+ * queue is full, spans are dropped rather than blocking requests.
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public SpanExporter otlpJsonSpanExporter() {
+        return new OtlpJsonSpanExporter();
+    }
+}
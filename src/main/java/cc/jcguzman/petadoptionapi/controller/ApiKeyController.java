@@ -14,9 +14,13 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.security.SecurityRequirements;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
@@ -57,6 +61,21 @@ public class ApiKeyController {
         private Integer validityDays;
     }
 
+    @Schema(description = "Request object for generating several API keys with the same settings")
+    @Data
+    @EqualsAndHashCode(callSuper = true)
+    public static class GenerateBatchRequest extends GenerateKeyRequest {
+        @Schema(description = "Number of keys to generate",
+                example = "100",
+                minimum = "1",
+                maximum = "1000",
+                required = true)
+        @NotNull(message = "Count is required")
+        @Min(value = 1, message = "Count must be between 1 and 1000")
+        @Max(value = 1000, message = "Count must be between 1 and 1000")
+        private Integer count;
+    }
+
     @Operation(
             summary = "Generate new API key",
             description = "Creates a new API key with specified parameters. This endpoint does not require authentication " +
@@ -112,6 +131,58 @@ public class ApiKeyController {
         return ResponseEntity.ok(newKey);
     }
 
+    @Operation(
+            summary = "Generate API keys in bulk",
+            description = "Creates up to 1000 API keys that share a description, creator and validity, e.g. when " +
+                    "onboarding a partner. Unlike single key generation this requires an existing API key. " +
+                    "The generated keys should be stored securely as they cannot be retrieved later."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "API keys generated successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = ApiKey.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input parameters",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(example = """
+                                    {
+                                        "timestamp": "2024-11-04T05:00:00Z",
+                                        "message": "Validation failed",
+                                        "errors": [
+                                            "Count must be between 1 and 1000"
+                                        ]
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unauthorized - API key is missing or invalid",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(example = "{\"message\": \"Invalid or missing API key\"}")
+                    )
+            )
+    })
+    @SecurityRequirement(name = "ApiKey")
+    @PostMapping("/generate-batch")
+    public ResponseEntity<List<ApiKey>> generateKeys(@Valid @RequestBody GenerateBatchRequest request) {
+        List<ApiKey> newKeys = apiKeyService.generateKeys(
+                request.getDescription(),
+                request.getCreatedBy(),
+                request.getValidityDays(),
+                request.getCount()
+        );
+        return ResponseEntity.ok(newKeys);
+    }
+
     @Operation(
             summary = "List all API keys",
             description = "Retrieves a list of all API keys in the system. This includes both active and inactive keys. " +
@@ -0,0 +1,66 @@
+package cc.jcguzman.petadoptionapi.controller;
+
+import cc.jcguzman.petadoptionapi.model.ChangeNotification;
+import cc.jcguzman.petadoptionapi.service.ChangeFeedService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/v1/events")
+@RequiredArgsConstructor
+@Tag(name = "Change Feed", description = "Live stream of pet and foster changes")
+@io.swagger.v3.oas.annotations.security.SecurityRequirement(name = "ApiKey")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @Operation(
+            summary = "Subscribe to changes",
+            description = "Opens a server-sent event stream of committed changes: pets created, updated, changing " +
+                    "status, assigned and unassigned, and fosters created, updated and deactivated. The event name " +
+                    "is the change type and the event id a sequence number. Reconnect with Last-Event-ID to replay " +
+                    "missed changes; a 'reset' event means changes were dropped and the client should reload"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream opened",
+                    content = @Content(
+                            mediaType = MediaType.TEXT_EVENT_STREAM_VALUE,
+                            schema = @Schema(implementation = ChangeNotification.class),
+                            examples = @ExampleObject(value = """
+                                id:42
+                                event:PET_ASSIGNED
+                                data:{"Type":"PET_ASSIGNED","PetId":1,"FosterId":2,"Status":"FOSTERED","Timestamp":"2024-11-04T10:00:00"}
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Too many open subscriptions",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(example = "{\"timestamp\":\"2024-11-04T10:00:00\",\"message\":\"Change feed is at its limit of 10000 subscribers\"}")
+                    )
+            )
+    })
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @Parameter(description = "Id of the last event received; changes after it are replayed", example = "41")
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return changeFeedService.subscribe(lastEventId);
+    }
+}
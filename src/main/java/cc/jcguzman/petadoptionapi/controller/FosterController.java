@@ -1,7 +1,14 @@
 package cc.jcguzman.petadoptionapi.controller;
 
+import cc.jcguzman.petadoptionapi.config.JacksonConfig;
+import cc.jcguzman.petadoptionapi.csv.CsvFormat;
+import cc.jcguzman.petadoptionapi.model.ImportResult;
 import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.FosterAssignments;
 import cc.jcguzman.petadoptionapi.model.Fosters;
+import cc.jcguzman.petadoptionapi.service.FosterCsvService;
+import cc.jcguzman.petadoptionapi.service.FosterMatchingService;
+import cc.jcguzman.petadoptionapi.service.FosterProximityService;
 import cc.jcguzman.petadoptionapi.service.FosterService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,12 +20,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/fosters")
@@ -28,6 +41,9 @@ import java.util.List;
 public class FosterController {
 
     private final FosterService fosterService;
+    private final FosterMatchingService fosterMatchingService;
+    private final FosterProximityService fosterProximityService;
+    private final FosterCsvService fosterCsvService;
 
     @Operation(
             summary = "Get all fosters",
@@ -63,12 +79,68 @@ public class FosterController {
                     }
             )
     })
-    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Fosters> getAllFosters() {
         List<Foster> fosterList = fosterService.getAllFosters();
         return ResponseEntity.ok(new Fosters(fosterList));
     }
 
+    @Operation(
+            summary = "Export all fosters as CSV",
+            description = "Streams every foster as CSV, one row per foster after a header row, when text/csv is " +
+                    "requested. The file can be imported as is"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "CSV stream of all fosters",
+                    content = @Content(mediaType = CsvFormat.TEXT_CSV_VALUE)
+            )
+    })
+    @GetMapping(produces = CsvFormat.TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportFosters() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CsvFormat.TEXT_CSV_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"fosters.csv\"")
+                .body(fosterCsvService::exportFosters);
+    }
+
+    @Operation(
+            summary = "Get fosters by IDs",
+            description = "Retrieves several fosters in one call, in the order requested. IDs that do not exist " +
+                    "are listed under MissingIds instead of failing the request"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the requested fosters",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Fosters.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = Fosters.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    })
+    @GetMapping(params = "ids", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Fosters> getFostersByIds(
+            @Parameter(description = "Comma-separated IDs of the fosters to retrieve", example = "1,2,3", required = true)
+            @RequestParam List<Long> ids) {
+        Map<Long, Foster> found = fosterService.getFostersByIds(ids);
+        List<Long> missingIds = ids.stream()
+                .distinct()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        return ResponseEntity.ok(new Fosters(new ArrayList<>(found.values()), missingIds));
+    }
+
     @Operation(
             summary = "Get foster by ID",
             description = "Retrieves detailed information about a specific foster caregiver using their unique identifier"
@@ -103,7 +175,8 @@ public class FosterController {
                     }
             )
     })
-    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Foster> getFosterById(
             @Parameter(description = "ID of the foster to retrieve", example = "1", required = true)
             @PathVariable Long id) {
@@ -131,7 +204,8 @@ public class FosterController {
                     }
             )
     })
-    @GetMapping(value = "/active", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(value = "/active", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Fosters> getActiveFosters() {
         List<Foster> activeFosters = fosterService.getActiveFosters();
         return ResponseEntity.ok(new Fosters(activeFosters));
@@ -157,12 +231,52 @@ public class FosterController {
                     }
             )
     })
-    @GetMapping(value = "/available", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(value = "/available", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Fosters> getAvailableFosters() {
         List<Foster> availableFosters = fosterService.getAvailableFosters();
         return ResponseEntity.ok(new Fosters(availableFosters));
     }
 
+    @Operation(
+            summary = "Find nearby fosters",
+            description = "Retrieves active fosters within a radius of a location, nearest first, with their distance. " +
+                    "With availableOnly, fosters at capacity are skipped. Fosters without coordinates are never returned"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved nearby fosters",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Fosters.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = Fosters.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Coordinates, radius or limit out of range")
+    })
+    @GetMapping(value = "/nearby", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Fosters> getNearbyFosters(
+            @Parameter(description = "Latitude of the search center", example = "28.5383", required = true)
+            @RequestParam double lat,
+            @Parameter(description = "Longitude of the search center", example = "-81.3792", required = true)
+            @RequestParam double lon,
+            @Parameter(description = "Search radius in kilometers (max 500)", example = "25")
+            @RequestParam(defaultValue = "25") double radiusKm,
+            @Parameter(description = "Only return fosters that can accept more pets", example = "true")
+            @RequestParam(defaultValue = "true") boolean availableOnly,
+            @Parameter(description = "Maximum number of fosters to return (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        List<Foster> fosters = fosterProximityService.findNearby(lat, lon, radiusKm, availableOnly, limit);
+        return ResponseEntity.ok(new Fosters(fosters));
+    }
+
     @Operation(
             summary = "Create new foster",
             description = "Creates a new foster caregiver in the system with the provided details"
@@ -228,14 +342,45 @@ public class FosterController {
             }
     )
     @PostMapping(
-            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
-            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<Foster> createFoster(@Valid @RequestBody Foster foster) {
         Foster createdFoster = fosterService.createFoster(foster);
         return new ResponseEntity<>(createdFoster, HttpStatus.CREATED);
     }
 
+    @Operation(
+            summary = "Import fosters from CSV",
+            description = "Adds every row of a CSV file as a new foster. Columns are matched by header, using the same " +
+                    "names as the export; an id column is ignored. The file is read and stored in batches, so it may be " +
+                    "arbitrarily large. Invalid rows are skipped and reported. Rows whose email is already registered are rejected"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished; see Imported, Rejected and Errors",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ImportResult.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = ImportResult.class)
+                            )
+                    }
+            )
+    })
+    @PostMapping(value = "/import", consumes = CsvFormat.TEXT_CSV_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ImportResult> importFosters(InputStream body) throws IOException {
+        return ResponseEntity.ok(fosterCsvService.importFosters(body));
+    }
+
     @Operation(
             summary = "Update foster",
             description = "Updates an existing foster's information with the provided details"
@@ -259,8 +404,10 @@ public class FosterController {
     })
     @PutMapping(
             value = "/{id}",
-            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
-            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<Foster> updateFoster(
             @Parameter(description = "ID of the foster to update", example = "1", required = true)
@@ -310,7 +457,8 @@ public class FosterController {
     })
     @PostMapping(
             value = "/{fosterId}/pets/{petId}",
-            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<Foster> assignPetToFoster(
             @Parameter(description = "ID of the foster", example = "1", required = true)
@@ -345,7 +493,8 @@ public class FosterController {
     })
     @DeleteMapping(
             value = "/{fosterId}/pets/{petId}",
-            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<Foster> unassignPetFromFoster(
             @Parameter(description = "ID of the foster", example = "1", required = true)
@@ -355,4 +504,109 @@ public class FosterController {
         Foster updatedFoster = fosterService.unassignPetFromFoster(fosterId, petId);
         return ResponseEntity.ok(updatedFoster);
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Apply assignment batch",
+            description = "Applies a list of ASSIGN, UNASSIGN and MOVE operations in a single transaction. " +
+                    "Capacity is validated against the final state of the whole batch, and nothing is changed " +
+                    "if any operation is invalid"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Batch applied successfully; returns the fosters whose assignments changed",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Fosters.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = Fosters.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "404", description = "A referenced foster or pet was not found"),
+            @ApiResponse(responseCode = "400", description = "An operation is invalid or a foster would exceed its capacity")
+    })
+    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+            required = true,
+            content = @Content(
+                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                    schema = @Schema(implementation = FosterAssignments.class),
+                    examples = @ExampleObject(value = """
+                            {
+                                "Assignments": [
+                                    {"Type": "MOVE", "PetId": 1, "FosterId": 1, "TargetFosterId": 5},
+                                    {"Type": "UNASSIGN", "PetId": 2, "FosterId": 2},
+                                    {"Type": "ASSIGN", "PetId": 12, "FosterId": 2}
+                                ]
+                            }
+                            """)
+            )
+    )
+    @PostMapping(
+            value = "/assignments",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
+    )
+    public ResponseEntity<Fosters> applyAssignments(@Valid @RequestBody FosterAssignments batch) {
+        List<Foster> changedFosters = fosterService.applyAssignments(batch.getAssignments());
+        return ResponseEntity.ok(new Fosters(changedFosters));
+    }
+
+    @Operation(
+            summary = "Preview foster matching",
+            description = "Computes a capacity-respecting placement of every unfostered AVAILABLE pet with active " +
+                    "fosters that have free slots, favoring species preferences and long waits. Nothing is changed"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Proposed assignments",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = FosterAssignments.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = FosterAssignments.class)
+                            )
+                    }
+            )
+    })
+    @GetMapping(value = "/matching", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<FosterAssignments> previewMatching() {
+        return ResponseEntity.ok(new FosterAssignments(fosterMatchingService.previewMatches()));
+    }
+
+    @Operation(
+            summary = "Apply foster matching",
+            description = "Computes the same placement as the preview and applies all of it in one transaction"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Assignments applied",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = FosterAssignments.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = FosterAssignments.class)
+                            )
+                    }
+            )
+    })
+    @PostMapping(value = "/matching", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<FosterAssignments> applyMatching() {
+        return ResponseEntity.ok(new FosterAssignments(fosterMatchingService.applyMatches()));
+    }
+}
@@ -1,7 +1,15 @@
 package cc.jcguzman.petadoptionapi.controller;
 
+import cc.jcguzman.petadoptionapi.config.JacksonConfig;
+import cc.jcguzman.petadoptionapi.csv.CsvFormat;
+import cc.jcguzman.petadoptionapi.model.ImportResult;
 import cc.jcguzman.petadoptionapi.model.Pet;
 import cc.jcguzman.petadoptionapi.model.Pets;
+import cc.jcguzman.petadoptionapi.model.StatusChanges;
+import cc.jcguzman.petadoptionapi.recommendation.AdopterProfile;
+import cc.jcguzman.petadoptionapi.service.FosterWaitlistService;
+import cc.jcguzman.petadoptionapi.service.PetCsvService;
+import cc.jcguzman.petadoptionapi.service.PetRecommendationService;
 import cc.jcguzman.petadoptionapi.service.PetService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -13,12 +21,21 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/pets")
@@ -28,6 +45,9 @@ import java.util.List;
 public class PetController {
 
     private final PetService petService;
+    private final PetRecommendationService petRecommendationService;
+    private final FosterWaitlistService fosterWaitlistService;
+    private final PetCsvService petCsvService;
 
     @Operation(
             summary = "Get all pets",
@@ -63,7 +83,8 @@ public class PetController {
                     }
             )
     })
-    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Pets> getAllPets() {
         try {
             List<Pet> petList = petService.getAllPets();
@@ -73,6 +94,61 @@ public class PetController {
         }
     }
 
+    @Operation(
+            summary = "Export all pets as CSV",
+            description = "Streams every pet as CSV, one row per pet after a header row, when text/csv is " +
+                    "requested. The file can be imported as is"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "CSV stream of all pets",
+                    content = @Content(mediaType = CsvFormat.TEXT_CSV_VALUE)
+            )
+    })
+    @GetMapping(produces = CsvFormat.TEXT_CSV_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPets() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CsvFormat.TEXT_CSV_VALUE))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"pets.csv\"")
+                .body(petCsvService::exportPets);
+    }
+
+    @Operation(
+            summary = "Get pets by IDs",
+            description = "Retrieves several pets in one call, in the order requested. IDs that do not exist " +
+                    "are listed under MissingIds instead of failing the request"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the requested pets",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Pets.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = Pets.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Too many IDs requested")
+    })
+    @GetMapping(params = "ids", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Pets> getPetsByIds(
+            @Parameter(description = "Comma-separated IDs of the pets to retrieve", example = "1,2,3", required = true)
+            @RequestParam List<Long> ids) {
+        Map<Long, Pet> found = petService.getPetsByIds(ids);
+        List<Long> missingIds = ids.stream()
+                .distinct()
+                .filter(id -> !found.containsKey(id))
+                .toList();
+        return ResponseEntity.ok(new Pets(new ArrayList<>(found.values()), missingIds));
+    }
+
     @Operation(
             summary = "Get pet by ID",
             description = "Retrieves detailed information about a specific pet using their unique identifier"
@@ -107,7 +183,8 @@ public class PetController {
                     }
             )
     })
-    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(value = "/{id}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Pet> getPetById(
             @Parameter(description = "ID of the pet to retrieve", example = "1", required = true)
             @PathVariable Long id) {
@@ -134,7 +211,8 @@ public class PetController {
                     }
             )
     })
-    @GetMapping(value = "/available", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(value = "/available", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Pets> getAvailablePets() {
         List<Pet> availablePets = petService.getAvailablePets();
         return ResponseEntity.ok(Pets.of(availablePets));
@@ -160,7 +238,8 @@ public class PetController {
                     }
             )
     })
-    @GetMapping(value = "/species/{species}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(value = "/species/{species}", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Pets> getPetsBySpecies(
             @Parameter(description = "Species to filter by",
                     example = "Dog",
@@ -191,12 +270,148 @@ public class PetController {
                     }
             )
     })
-    @GetMapping(value = "/needs-foster", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE})
+    @GetMapping(value = "/needs-foster", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
     public ResponseEntity<Pets> getPetsNeedingFoster() {
         List<Pet> pets = petService.getPetsNeedingFoster();
         return ResponseEntity.ok(Pets.of(pets));
     }
 
+    @Operation(
+            summary = "Get foster waitlist",
+            description = "Retrieves pets waiting for a foster in the order the auto-assigner will place them: " +
+                    "most urgent first, then longest waiting. With waitlist.auto-assign.enabled, pets are placed " +
+                    "automatically as capacity frees up"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the waitlist",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Pets.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = Pets.class)
+                            )
+                    }
+            )
+    })
+    @GetMapping(value = "/waitlist", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Pets> getWaitlist(
+            @Parameter(description = "Maximum number of pets to return (1-200)", example = "50")
+            @RequestParam(defaultValue = "50") int limit) {
+        List<Long> ids = fosterWaitlistService.getWaitingPetIds(Math.max(1, Math.min(limit, 200)));
+        return ResponseEntity.ok(Pets.of(List.copyOf(petService.getPetsByIds(ids).values())));
+    }
+
+    @Operation(
+            summary = "Get pet recommendations",
+            description = "Ranks AVAILABLE pets against an adopter profile (species, size, age range, budget and " +
+                    "temperament keywords) and returns the best matches first. Pets above the budget are excluded"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully ranked available pets",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = Pets.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = Pets.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Limit out of range")
+    })
+    @GetMapping(value = "/recommendations", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<Pets> getRecommendations(
+            @ParameterObject AdopterProfile profile,
+            @Parameter(description = "Number of pets to return (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(Pets.of(petRecommendationService.recommend(profile, limit)));
+    }
+
+    @Operation(
+            summary = "Get status history of a pet",
+            description = "Retrieves every status transition of a pet, oldest first, optionally limited to a time window"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the history",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = StatusChanges.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = StatusChanges.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Limit out of range"),
+            @ApiResponse(responseCode = "404", description = "Pet not found")
+    })
+    @GetMapping(value = "/{id}/history", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StatusChanges> getStatusHistory(
+            @Parameter(description = "ID of the pet", example = "1", required = true)
+            @PathVariable Long id,
+            @Parameter(description = "Only transitions at or after this time", example = "2024-11-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only transitions at or before this time", example = "2024-11-30T23:59:59")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Maximum number of transitions to return (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(new StatusChanges(petService.getStatusHistory(id, from, to, limit)));
+    }
+
+    @Operation(
+            summary = "Get status transitions",
+            description = "Retrieves transitions of any pet into the given status within a time window, oldest " +
+                    "first - for example every adoption last month"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the transitions",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = StatusChanges.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = StatusChanges.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Limit out of range")
+    })
+    @GetMapping(value = "/history", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<StatusChanges> getStatusChanges(
+            @Parameter(description = "Status the pets moved into", required = true,
+                    schema = @Schema(implementation = Pet.Status.class))
+            @RequestParam Pet.Status status,
+            @Parameter(description = "Only transitions at or after this time", example = "2024-11-01T00:00:00")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "Only transitions at or before this time", example = "2024-11-30T23:59:59")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "Maximum number of transitions to return (1-1000)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(new StatusChanges(petService.getStatusChanges(status, from, to, limit)));
+    }
+
     @Operation(
             summary = "Create new pet",
             description = "Creates a new pet entry in the system with the provided details"
@@ -276,14 +491,45 @@ public class PetController {
             }
     )
     @PostMapping(
-            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
-            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<Pet> createPet(@Valid @RequestBody Pet pet) {
         Pet createdPet = petService.createPet(pet);
         return new ResponseEntity<>(createdPet, HttpStatus.CREATED);
     }
 
+    @Operation(
+            summary = "Import pets from CSV",
+            description = "Adds every row of a CSV file as a new pet. Columns are matched by header, using the same " +
+                    "names as the export; an id column is ignored. The file is read and stored in batches, so it may be " +
+                    "arbitrarily large. Invalid rows are skipped and reported. FOSTERED pets are rejected; place them with a foster afterwards"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished; see Imported, Rejected and Errors",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ImportResult.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = ImportResult.class)
+                            )
+                    }
+            )
+    })
+    @PostMapping(value = "/import", consumes = CsvFormat.TEXT_CSV_VALUE,
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ImportResult> importPets(InputStream body) throws IOException {
+        return ResponseEntity.ok(petCsvService.importPets(body));
+    }
+
     @Operation(
             summary = "Update pet",
             description = "Updates an existing pet's information with the provided details"
@@ -320,8 +566,10 @@ public class PetController {
     })
     @PutMapping(
             value = "/{id}",
-            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE},
-            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<Pet> updatePet(
             @Parameter(description = "ID of the pet to update", example = "1", required = true)
@@ -366,7 +614,8 @@ public class PetController {
     })
     @PutMapping(
             value = "/{id}/status",
-            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE}
+            produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE}
     )
     public ResponseEntity<Pet> updatePetStatus(
             @Parameter(description = "ID of the pet to update", example = "1", required = true)
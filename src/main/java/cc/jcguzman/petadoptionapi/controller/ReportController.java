@@ -0,0 +1,59 @@
+package cc.jcguzman.petadoptionapi.controller;
+
+import cc.jcguzman.petadoptionapi.config.JacksonConfig;
+import cc.jcguzman.petadoptionapi.model.PetReport;
+import cc.jcguzman.petadoptionapi.reporting.ReportQuery;
+import cc.jcguzman.petadoptionapi.service.PetReportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/reports")
+@RequiredArgsConstructor
+@Tag(name = "Reports", description = "Ad-hoc analytics over all pets")
+@io.swagger.v3.oas.annotations.security.SecurityRequirement(name = "ApiKey")
+public class ReportController {
+
+    private final PetReportService petReportService;
+
+    @Operation(
+            summary = "Run a pet report",
+            description = "Groups pets by any of species, breed, gender, color, status, age bucket and urgency, after " +
+                    "optional filters, and returns count, average age, fee total, average, min, max and the requested " +
+                    "fee percentiles per group. Runs on a periodically refreshed snapshot, so very recent changes may " +
+                    "not be included yet"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully ran the report",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = PetReport.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = PetReport.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Invalid grouping, age bucket size or percentiles")
+    })
+    @GetMapping(value = "/pets", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<PetReport> getPetReport(@ParameterObject ReportQuery query) {
+        return ResponseEntity.ok(petReportService.run(query));
+    }
+}
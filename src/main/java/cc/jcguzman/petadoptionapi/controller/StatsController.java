@@ -0,0 +1,55 @@
+package cc.jcguzman.petadoptionapi.controller;
+
+import cc.jcguzman.petadoptionapi.config.JacksonConfig;
+import cc.jcguzman.petadoptionapi.model.ShelterStats;
+import cc.jcguzman.petadoptionapi.service.ShelterStatsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+@RequiredArgsConstructor
+@Tag(name = "Stats", description = "Shelter-wide analytics")
+@io.swagger.v3.oas.annotations.security.SecurityRequirement(name = "ApiKey")
+public class StatsController {
+
+    private final ShelterStatsService shelterStatsService;
+
+    @Operation(
+            summary = "Get shelter statistics",
+            description = "Returns pet counts by species and status, fee totals, the average length of stay of pets " +
+                    "in care and foster utilization. Totals are kept up to date on every change and periodically " +
+                    "checked against the database"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved statistics",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = ShelterStats.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = ShelterStats.class)
+                            )
+                    }
+            )
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<ShelterStats> getStats() {
+        return ResponseEntity.ok(shelterStatsService.getStats());
+    }
+}
@@ -0,0 +1,62 @@
+package cc.jcguzman.petadoptionapi.controller;
+
+import cc.jcguzman.petadoptionapi.config.JacksonConfig;
+import cc.jcguzman.petadoptionapi.model.SyncPage;
+import cc.jcguzman.petadoptionapi.service.SyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "Incremental download of pet and foster changes for offline clients")
+@io.swagger.v3.oas.annotations.security.SecurityRequirement(name = "ApiKey")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @Operation(
+            summary = "Get changes since a cursor",
+            description = "Returns pets and fosters changed after the given cursor, oldest change first. Start with " +
+                    "since=0 for a full download, then pass the returned 'Next' value on each sync. Removed pets and " +
+                    "deactivated fosters are returned as tombstone ids"
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved changes",
+                    content = {
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_JSON_VALUE,
+                                    schema = @Schema(implementation = SyncPage.class)
+                            ),
+                            @Content(
+                                    mediaType = MediaType.APPLICATION_XML_VALUE,
+                                    schema = @Schema(implementation = SyncPage.class)
+                            )
+                    }
+            ),
+            @ApiResponse(responseCode = "400", description = "Negative cursor or limit out of range")
+    })
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_XML_VALUE,
+                    MediaType.APPLICATION_CBOR_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE})
+    public ResponseEntity<SyncPage> getChanges(
+            @Parameter(description = "'Next' value from the previous sync, or 0 for everything", example = "0")
+            @RequestParam(defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changed rows to return (1-500)", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(syncService.getChangesSince(since, limit));
+    }
+}
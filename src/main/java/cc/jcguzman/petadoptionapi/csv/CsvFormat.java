@@ -0,0 +1,73 @@
+package cc.jcguzman.petadoptionapi.csv;
+
+import cc.jcguzman.petadoptionapi.config.JacksonConfig;
+import com.fasterxml.jackson.annotation.JsonSetter;
+import com.fasterxml.jackson.annotation.Nulls;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * CSV shared by export and import. Column headers are the JSON property names, so an
+ * exported file can be imported as is. Empty cells leave a property at its default.
+ */
+public final class CsvFormat {
+
+    public static final String TEXT_CSV_VALUE = "text/csv";
+
+    public static final List<String> PET_COLUMNS = List.of("id", "Name", "Species", "Breed", "Temperament", "Age",
+            "Gender", "Weight", "Color", "Date_Arrived", "Adoption_Fee", "Urgency", "Current_Status", "Foster_Id");
+
+    public static final List<String> FOSTER_COLUMNS = List.of("id", "Name", "Last Name", "Phone", "Address", "Email",
+            "Latitude", "Longitude", "FosterSince", "Active", "MaxPets", "PreferredSpecies");
+
+    private static final CsvMapper MAPPER = createMapper();
+
+    private CsvFormat() {
+    }
+
+    /** Writes rows given as arrays in the order of {@code columns}, after a header line. */
+    public static ObjectWriter writer(List<String> columns) {
+        CsvSchema.Builder schema = CsvSchema.builder().setUseHeader(true);
+        columns.forEach(schema::addColumn);
+        return MAPPER.writer(schema.build());
+    }
+
+    /**
+     * Writes one row. Nulls are written as empty cells; the generator would otherwise
+     * drop them from an array row and shift the remaining cells left.
+     */
+    public static void writeRow(SequenceWriter writer, Object[] row) throws IOException {
+        for (int i = 0; i < row.length; i++) {
+            if (row[i] == null) {
+                row[i] = "";
+            }
+        }
+        writer.write(row);
+    }
+
+    /** Reads rows into {@code type}, mapping columns by the header line. */
+    public static ObjectReader reader(Class<?> type) {
+        return MAPPER.readerFor(type).with(CsvSchema.emptySchema().withHeader());
+    }
+
+    private static CsvMapper createMapper() {
+        CsvMapper mapper = new CsvMapper();
+        JacksonConfig.configure(Jackson2ObjectMapperBuilder.json()).configure(mapper);
+        mapper.enable(CsvParser.Feature.EMPTY_STRING_AS_NULL);
+        mapper.enable(CsvParser.Feature.TRIM_SPACES);
+        mapper.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        mapper.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        mapper.setDefaultSetterInfo(JsonSetter.Value.forValueNulls(Nulls.SKIP));
+        return mapper;
+    }
+}
@@ -0,0 +1,91 @@
+package cc.jcguzman.petadoptionapi.csv;
+
+import cc.jcguzman.petadoptionapi.model.ImportResult;
+import com.fasterxml.jackson.databind.DatabindException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reads a CSV upload one row at a time, validates each row and hands valid rows to a
+ * {@link BatchWriter} in batches, so memory use does not depend on the size of the
+ * file. A row that cannot be read or fails validation is reported and skipped; a file
+ * that is no longer parseable stops the import, keeping the batches already written.
+ */
+public final class CsvImporter<T> {
+
+    private final ObjectReader reader;
+    private final Validator validator;
+    private final int batchSize;
+    private final BatchWriter<T> writer;
+
+    public CsvImporter(ObjectReader reader, Validator validator, int batchSize, BatchWriter<T> writer) {
+        this.reader = reader;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.writer = writer;
+    }
+
+    /** Stores a batch of valid rows, recording what it imported or rejected. */
+    @FunctionalInterface
+    public interface BatchWriter<T> {
+        void write(List<Row<T>> rows, ImportResult result);
+    }
+
+    /**
+     * @param number one-based position of the row among the data rows
+     */
+    public record Row<T>(long number, T value) {
+    }
+
+    public ImportResult importFrom(InputStream input) throws IOException {
+        ImportResult result = new ImportResult();
+        List<Row<T>> batch = new ArrayList<>(batchSize);
+        long number = 0;
+        try (MappingIterator<T> rows = reader.readValues(input)) {
+            while (true) {
+                T value;
+                number++;
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    value = rows.nextValue();
+                } catch (DatabindException e) {
+                    result.reject(number, e.getOriginalMessage());
+                    continue;
+                } catch (IOException e) {
+                    result.reject(number, "Unreadable CSV, import stopped: " + e.getMessage());
+                    result.setComplete(false);
+                    break;
+                }
+
+                Set<ConstraintViolation<T>> violations = validator.validate(value);
+                if (!violations.isEmpty()) {
+                    result.reject(number, violations.stream()
+                            .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                            .sorted()
+                            .collect(Collectors.joining("; ")));
+                    continue;
+                }
+                batch.add(new Row<>(number, value));
+                if (batch.size() == batchSize) {
+                    writer.write(batch, result);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            writer.write(batch, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,53 @@
+package cc.jcguzman.petadoptionapi.event;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+
+/**
+ * A business-level change made by {@code PetService} or {@code FosterService}, published
+ * inside the transaction that makes it. Listeners that act on it should do so after commit.
+ */
+public record ChangeEvent(Type type, Long petId, Long fosterId, Pet.Status status) {
+
+    public enum Type {
+        PET_CREATED,
+        PET_UPDATED,
+        PET_STATUS_CHANGED,
+        PET_ASSIGNED,
+        PET_UNASSIGNED,
+        FOSTER_CREATED,
+        FOSTER_UPDATED,
+        FOSTER_DEACTIVATED
+    }
+
+    public static ChangeEvent petCreated(Pet pet) {
+        return new ChangeEvent(Type.PET_CREATED, pet.getId(), pet.getFosterId(), pet.getCurrentStatus());
+    }
+
+    public static ChangeEvent petUpdated(Pet pet) {
+        return new ChangeEvent(Type.PET_UPDATED, pet.getId(), pet.getFosterId(), pet.getCurrentStatus());
+    }
+
+    public static ChangeEvent petStatusChanged(Pet pet) {
+        return new ChangeEvent(Type.PET_STATUS_CHANGED, pet.getId(), pet.getFosterId(), pet.getCurrentStatus());
+    }
+
+    public static ChangeEvent petAssigned(Long petId, Long fosterId) {
+        return new ChangeEvent(Type.PET_ASSIGNED, petId, fosterId, Pet.Status.FOSTERED);
+    }
+
+    public static ChangeEvent petUnassigned(Long petId, Long fosterId, Pet.Status status) {
+        return new ChangeEvent(Type.PET_UNASSIGNED, petId, fosterId, status);
+    }
+
+    public static ChangeEvent fosterCreated(Long fosterId) {
+        return new ChangeEvent(Type.FOSTER_CREATED, null, fosterId, null);
+    }
+
+    public static ChangeEvent fosterUpdated(Long fosterId) {
+        return new ChangeEvent(Type.FOSTER_UPDATED, null, fosterId, null);
+    }
+
+    public static ChangeEvent fosterDeactivated(Long fosterId) {
+        return new ChangeEvent(Type.FOSTER_DEACTIVATED, null, fosterId, null);
+    }
+}
@@ -0,0 +1,7 @@
+package cc.jcguzman.petadoptionapi.event;
+
+/**
+ * Published whenever a foster row is inserted, updated or deleted, from any code path.
+ */
+public record FosterChangedEvent(Long fosterId) {
+}
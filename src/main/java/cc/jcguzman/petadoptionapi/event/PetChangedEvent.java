@@ -0,0 +1,7 @@
+package cc.jcguzman.petadoptionapi.event;
+
+/**
+ * Published whenever a pet row is inserted, updated or deleted, from any code path.
+ */
+public record PetChangedEvent(Long petId) {
+}
@@ -0,0 +1,71 @@
+package cc.jcguzman.petadoptionapi.feed;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Fixed-size ring of the most recent change feed entries, numbered by a gapless
+ * sequence starting at 1. Appends are serialized; reads are lock-free, and a reader
+ * that asks for an entry which has already been overwritten gets {@code null}.
+ */
+public final class ChangeLog {
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final int mask;
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private volatile long lastSequence;
+
+    /**
+     * @param capacity number of entries kept; rounded up to a power of two
+     */
+    public ChangeLog(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(Math.max(size, 1));
+        this.mask = slots.length() - 1;
+    }
+
+    public long append(String type, String data) {
+        appendLock.lock();
+        try {
+            long sequence = lastSequence + 1;
+            slots.set((int) (sequence & mask), new Entry(sequence, type, data));
+            lastSequence = sequence;
+            return sequence;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    public Entry get(long sequence) {
+        if (sequence < 1 || sequence > lastSequence) {
+            return null;
+        }
+        Entry entry = slots.get((int) (sequence & mask));
+        return entry != null && entry.sequence() == sequence ? entry : null;
+    }
+
+    public long lastSequence() {
+        return lastSequence;
+    }
+
+    /**
+     * @return whether every entry after {@code sequence} is still held
+     */
+    public boolean canResumeAfter(long sequence) {
+        long last = lastSequence;
+        return sequence >= 0 && sequence <= last && last - sequence <= slots.length();
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * One feed entry; {@code data} is the JSON payload, serialized once for all subscribers.
+     */
+    public record Entry(long sequence, String type, String data) {
+    }
+}
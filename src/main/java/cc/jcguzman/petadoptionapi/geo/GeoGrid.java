@@ -0,0 +1,117 @@
+package cc.jcguzman.petadoptionapi.geo;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable uniform latitude/longitude grid over point ids. A radius query only visits
+ * the cells overlapping the bounding box of the circle, then filters by great-circle
+ * distance, so its cost depends on local density rather than the number of points.
+ */
+public final class GeoGrid {
+
+    private static final double EARTH_RADIUS_KM = 6371.0088;
+    private static final double KM_PER_DEGREE_LAT = Math.PI * EARTH_RADIUS_KM / 180.0;
+    private static final double CELL_DEGREES = 0.1;
+    private static final int LON_CELLS = (int) Math.round(360 / CELL_DEGREES);
+
+    private final long[] ids;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final Map<Long, int[]> cells;
+
+    private GeoGrid(long[] ids, double[] latitudes, double[] longitudes, Map<Long, int[]> cells) {
+        this.ids = ids;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.cells = cells;
+    }
+
+    /**
+     * Builds a grid from rows of {@code id, latitude, longitude}.
+     */
+    public static GeoGrid of(List<Object[]> rows) {
+        int count = rows.size();
+        long[] ids = new long[count];
+        double[] latitudes = new double[count];
+        double[] longitudes = new double[count];
+        Map<Long, List<Integer>> buckets = new HashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (Long) row[0];
+            latitudes[i] = (Double) row[1];
+            longitudes[i] = (Double) row[2];
+            buckets.computeIfAbsent(cellKey(latRow(latitudes[i]), lonColumn(longitudes[i])), key -> new ArrayList<>())
+                    .add(i);
+        }
+
+        Map<Long, int[]> cells = new HashMap<>(buckets.size() * 2);
+        buckets.forEach((key, members) -> cells.put(key, members.stream().mapToInt(Integer::intValue).toArray()));
+        return new GeoGrid(ids, latitudes, longitudes, cells);
+    }
+
+    /**
+     * @return points within {@code radiusKm}, nearest first
+     */
+    public List<Hit> within(double latitude, double longitude, double radiusKm) {
+        double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+        double cosLat = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + latSpan)));
+        double lonSpan = Math.min(180.0, radiusKm / (KM_PER_DEGREE_LAT * Math.max(cosLat, 1e-6)));
+
+        int firstRow = latRow(Math.max(-90.0, latitude - latSpan));
+        int lastRow = latRow(Math.min(90.0, latitude + latSpan));
+        int firstColumn = (int) Math.floor((longitude - lonSpan + 180.0) / CELL_DEGREES);
+        int lastColumn = Math.min(firstColumn + LON_CELLS - 1, (int) Math.floor((longitude + lonSpan + 180.0) / CELL_DEGREES));
+
+        List<Hit> hits = new ArrayList<>();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                int[] members = cells.get(cellKey(row, Math.floorMod(column, LON_CELLS)));
+                if (members == null) {
+                    continue;
+                }
+                for (int member : members) {
+                    double distance = distanceKm(latitude, longitude, latitudes[member], longitudes[member]);
+                    if (distance <= radiusKm) {
+                        hits.add(new Hit(ids[member], distance));
+                    }
+                }
+            }
+        }
+
+        Hit[] sorted = hits.toArray(new Hit[0]);
+        Arrays.sort(sorted, (a, b) -> Double.compare(a.distanceKm(), b.distanceKm()));
+        return Arrays.asList(sorted);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2)) * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    private static int latRow(double latitude) {
+        return (int) Math.floor((latitude + 90.0) / CELL_DEGREES);
+    }
+
+    private static int lonColumn(double longitude) {
+        return Math.floorMod((int) Math.floor((longitude + 180.0) / CELL_DEGREES), LON_CELLS);
+    }
+
+    private static long cellKey(int row, int column) {
+        return (long) row * LON_CELLS + column;
+    }
+
+    public record Hit(long id, double distanceKm) {
+    }
+}
@@ -0,0 +1,138 @@
+package cc.jcguzman.petadoptionapi.jdbc;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Hands out connections whose statements time each execution and report it, with the
+ * statement's SQL and bind values, to a {@link SlowQueryLog}. Only the execution call is
+ * timed, so reading a query's rows afterwards is not included. Everything else is passed
+ * straight to the pooled connection, and {@code unwrap} reaches the pool as before.
+ */
+public class SlowQueryDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate");
+    private static final Set<String> BATCH_METHODS = Set.of("executeBatch", "executeLargeBatch");
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+
+    private class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = SlowQueryDataSource.invoke(target, method, args);
+            Class<?> type = method.getReturnType();
+            if (result instanceof Statement statement && Statement.class.isAssignableFrom(type)) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                Class<?> face = type == CallableStatement.class ? CallableStatement.class
+                        : type == PreparedStatement.class ? PreparedStatement.class : Statement.class;
+                return Proxy.newProxyInstance(SlowQueryDataSource.class.getClassLoader(), new Class<?>[]{face},
+                        new StatementHandler(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private Object[] binds = new Object[8];
+        private int bindCount;
+        private int batchSize;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (preparedSql != null && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                clearBinds();
+            } else if (name.equals("addBatch")) {
+                batchSize++;
+            } else if (EXECUTE_METHODS.contains(name) || BATCH_METHODS.contains(name)) {
+                // execute(sql) runs the given text, not the prepared statement and its binds
+                boolean direct = args != null && args.length > 0 && args[0] instanceof String;
+                String sql = direct ? (String) args[0] : preparedSql != null ? preparedSql : "(statement batch)";
+                boolean batch = BATCH_METHODS.contains(name);
+                long start = System.nanoTime();
+                try {
+                    return SlowQueryDataSource.invoke(target, method, args);
+                } finally {
+                    slowQueryLog.executed(sql, binds, direct ? 0 : bindCount, batch ? batchSize : 0,
+                            System.nanoTime() - start);
+                    if (batch) {
+                        batchSize = 0;
+                    }
+                }
+            }
+            return SlowQueryDataSource.invoke(target, method, args);
+        }
+
+        private void bind(int index, Object value) {
+            if (index > binds.length) {
+                binds = Arrays.copyOf(binds, Math.max(index, binds.length * 2));
+            }
+            binds[index - 1] = value;
+            bindCount = Math.max(bindCount, index);
+        }
+
+        private void clearBinds() {
+            Arrays.fill(binds, 0, bindCount, null);
+            bindCount = 0;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package cc.jcguzman.petadoptionapi.jdbc;
+
+import cc.jcguzman.petadoptionapi.config.SlowQueryLogProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Locale;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decides which executed statements are logged and writes them to the {@code sql.slow}
+ * logger: slow ones at WARN and sampled ones at INFO. The statement is only formatted
+ * once it has been picked, so statements that are neither slow nor sampled cost a clock
+ * read and a comparison.
+ */
+@Slf4j(topic = "sql.slow")
+public class SlowQueryLog {
+
+    private final long thresholdNanos;
+    private final double sampleRate;
+    private final int maxSqlLength;
+    private final int maxBindLength;
+
+    public SlowQueryLog(SlowQueryLogProperties properties) {
+        this.thresholdNanos = properties.getThreshold().toNanos();
+        this.sampleRate = properties.getSampleRate();
+        this.maxSqlLength = properties.getMaxSqlLength();
+        this.maxBindLength = properties.getMaxBindLength();
+    }
+
+    /**
+     * @param binds     bind values by parameter index starting at 0, or null for plain statements
+     * @param batchSize rows in an executed batch, or 0 for a single execution
+     */
+    void executed(String sql, Object[] binds, int bindCount, int batchSize, long elapsedNanos) {
+        boolean slow = elapsedNanos >= thresholdNanos;
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        if (slow ? !log.isWarnEnabled() : !log.isInfoEnabled()) {
+            return;
+        }
+
+        String message = describe(sql, binds, bindCount, batchSize);
+        double millis = elapsedNanos / (double) TimeUnit.MILLISECONDS.toNanos(1);
+        if (slow) {
+            log.warn("Slow statement took {} ms: {}", String.format(Locale.ROOT, "%.1f", millis), message);
+        } else {
+            log.info("Sampled statement took {} ms: {}", String.format(Locale.ROOT, "%.1f", millis), message);
+        }
+    }
+
+    private String describe(String sql, Object[] binds, int bindCount, int batchSize) {
+        StringBuilder message = new StringBuilder(truncate(sql, maxSqlLength));
+        if (batchSize > 0) {
+            message.append(" [batch of ").append(batchSize).append(", last row]");
+        }
+        if (bindCount > 0) {
+            StringJoiner values = new StringJoiner(", ", " [", "]");
+            for (int i = 0; i < bindCount; i++) {
+                values.add(format(binds[i]));
+            }
+            message.append(values);
+        }
+        return message.toString();
+    }
+
+    private String format(Object value) {
+        if (value == null) {
+            return "null";
+        }
+        if (value instanceof byte[] bytes) {
+            return "<" + bytes.length + " bytes>";
+        }
+        if (value instanceof CharSequence || value instanceof Character) {
+            return "'" + truncate(value.toString(), maxBindLength) + "'";
+        }
+        return truncate(value.toString(), maxBindLength);
+    }
+
+    private static String truncate(String text, int maxLength) {
+        return text.length() <= maxLength ? text : text.substring(0, maxLength) + "...";
+    }
+}
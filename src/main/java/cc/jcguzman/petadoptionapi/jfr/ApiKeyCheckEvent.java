@@ -0,0 +1,26 @@
+package cc.jcguzman.petadoptionapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("cc.jcguzman.petadoptionapi.ApiKeyCheck")
+@Label("API Key Check")
+@Description("ApiKeyInterceptor deciding whether a request may proceed")
+@Category({"Pet Adoption API", "Auth"})
+@StackTrace(false)
+public class ApiKeyCheckEvent extends Event {
+
+    @Label("Route")
+    public String route;
+
+    /** {@code exempt} or {@code missing} without a lookup, {@code database} with one. */
+    @Label("Path")
+    public String path;
+
+    @Label("Accepted")
+    public boolean accepted;
+}
@@ -0,0 +1,37 @@
+package cc.jcguzman.petadoptionapi.jfr;
+
+import cc.jcguzman.petadoptionapi.model.Fosters;
+import cc.jcguzman.petadoptionapi.model.Pets;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/** Counts the entities in a returned value or body for event fields. */
+final class Entities {
+
+    private Entities() {
+    }
+
+    static int count(Object value) {
+        if (value == null || value instanceof Boolean) {
+            return 0;
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (value instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (value instanceof Pets pets) {
+            return pets.getPetList() != null ? pets.getPetList().size() : 0;
+        }
+        if (value instanceof Fosters fosters) {
+            return fosters.getFosters() != null ? fosters.getFosters().size() : 0;
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,25 @@
+package cc.jcguzman.petadoptionapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("cc.jcguzman.petadoptionapi.HttpRequest")
+@Label("HTTP Request")
+@Description("One request from the first filter to the response, enclosing the other phases")
+@Category({"Pet Adoption API", "HTTP"})
+@StackTrace(false)
+public class HttpRequestEvent extends Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Route")
+    String route;
+
+    @Label("Status")
+    int status;
+}
@@ -0,0 +1,23 @@
+package cc.jcguzman.petadoptionapi.jfr;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.HandlerMapping;
+
+/** The route pattern of the request being handled on this thread, for event fields. */
+final class RequestRoute {
+
+    private RequestRoute() {
+    }
+
+    /** The matched pattern, such as {@code /api/v1/pets/{id}}, or null outside a mapped request. */
+    static String current() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return null;
+        }
+        Object pattern = attributes.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE,
+                RequestAttributes.SCOPE_REQUEST);
+        return pattern != null ? pattern.toString() : null;
+    }
+}
@@ -0,0 +1,48 @@
+package cc.jcguzman.petadoptionapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("cc.jcguzman.petadoptionapi.Serialization")
+@Label("Body Serialization")
+@Description("Jackson reading a request body or writing a response body")
+@Category({"Pet Adoption API", "Serialization"})
+@StackTrace(false)
+public class SerializationEvent extends Event {
+
+    @Label("Route")
+    public String route;
+
+    @Label("Format")
+    public String format;
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Type")
+    public String type;
+
+    @Label("Entities")
+    @Description("Entities in the body: list size for lists and list wrappers, otherwise 1")
+    public int entities;
+
+    @Label("Payload Size")
+    @DataAmount
+    public long bytes;
+
+    /** Fills in the fields known before the body is converted. */
+    public void describe(String format, String direction, Object body) {
+        this.route = RequestRoute.current();
+        this.format = format;
+        this.direction = direction;
+        if (body != null) {
+            this.type = body.getClass().getSimpleName();
+            this.entities = Entities.count(body);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package cc.jcguzman.petadoptionapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("cc.jcguzman.petadoptionapi.ServiceCall")
+@Label("Service Call")
+@Description("A call into PetService, FosterService or ApiKeyService, including its transaction")
+@Category({"Pet Adoption API", "Persistence"})
+@StackTrace(false)
+public class ServiceCallEvent extends Event {
+
+    @Label("Route")
+    String route;
+
+    @Label("Service")
+    String service;
+
+    @Label("Method")
+    String method;
+
+    @Label("Entities")
+    @Description("Entities returned: the size of a returned collection or map, 1 for a single entity")
+    int entities;
+
+    @Label("SQL Statements")
+    int statements;
+
+    @Label("Failed")
+    boolean failed;
+}
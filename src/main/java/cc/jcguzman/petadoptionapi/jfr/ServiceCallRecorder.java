@@ -0,0 +1,52 @@
+package cc.jcguzman.petadoptionapi.jfr;
+
+import cc.jcguzman.petadoptionapi.metrics.QueryCounter;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emits a {@link ServiceCallEvent} for each public call into the pet, foster and API key
+ * services. It runs outside the transaction advice, so an event covers the commit as well.
+ * When the event is disabled the call goes straight through.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceCallRecorder {
+
+    @Around("execution(public * cc.jcguzman.petadoptionapi.service.PetService.*(..))"
+            + " || execution(public * cc.jcguzman.petadoptionapi.service.FosterService.*(..))"
+            + " || execution(public * cc.jcguzman.petadoptionapi.service.ApiKeyService.*(..))")
+    public Object record(ProceedingJoinPoint call) throws Throwable {
+        ServiceCallEvent event = new ServiceCallEvent();
+        if (!event.isEnabled()) {
+            return call.proceed();
+        }
+
+        event.begin();
+        try (QueryCounter.Scope statements = QueryCounter.open()) {
+            boolean failed = true;
+            Object result = null;
+            try {
+                result = call.proceed();
+                failed = false;
+                return result;
+            } finally {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.route = RequestRoute.current();
+                    event.service = call.getSignature().getDeclaringType().getSimpleName();
+                    event.method = call.getSignature().getName();
+                    event.entities = Entities.count(result);
+                    event.statements = statements.count();
+                    event.failed = failed;
+                    event.commit();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package cc.jcguzman.petadoptionapi.matching;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+
+/**
+ * Maximum-weight, capacity-respecting assignment of pets to foster profile groups.
+ *
+ * <p>This is min-cost flow solved by successive shortest paths, but on a reduced graph:
+ * since scores depend only on a foster's profile, fosters sharing a profile collapse
+ * into one group node whose capacity is their combined free slots. The residual graph
+ * then has one node per group plus the "unassigned" pool, and the best residual edge
+ * between two nodes is the pet whose move between them gains the most, kept in a lazy
+ * max-heap per node pair. Each augmentation is a longest-path search over a handful of
+ * nodes, so the cost is driven by the number of pets rather than pets x fosters.</p>
+ */
+public final class FosterMatcher {
+
+    public static final int UNASSIGNED = -1;
+
+    private static final double EPSILON = 1e-9;
+
+    private final double[][] scores;
+    private final int groupCount;
+    private final int pool;
+    private final int[] state;
+    private final PriorityQueue<Integer>[][] moves;
+
+    /**
+     * Computes the assignment.
+     *
+     * @param scores   {@code scores[pet][group]} - the gain of placing the pet in that group
+     * @param capacity free slots per group
+     * @return the group of each pet, or {@link #UNASSIGNED}
+     */
+    public static int[] match(double[][] scores, int[] capacity) {
+        return new FosterMatcher(scores, capacity.length).solve(capacity.clone());
+    }
+
+    @SuppressWarnings("unchecked")
+    private FosterMatcher(double[][] scores, int groupCount) {
+        this.scores = scores;
+        this.groupCount = groupCount;
+        this.pool = groupCount;
+        this.state = new int[scores.length];
+        Arrays.fill(state, pool);
+
+        this.moves = new PriorityQueue[groupCount + 1][groupCount];
+        for (int from = 0; from <= groupCount; from++) {
+            for (int to = 0; to < groupCount; to++) {
+                if (from != to) {
+                    final int source = from;
+                    final int target = to;
+                    moves[from][to] = new PriorityQueue<>(
+                            (a, b) -> Double.compare(gain(b, source, target), gain(a, source, target)));
+                }
+            }
+        }
+    }
+
+    private int[] solve(int[] free) {
+        for (int to = 0; to < groupCount; to++) {
+            for (int pet = 0; pet < scores.length; pet++) {
+                if (gain(pet, pool, to) > EPSILON) {
+                    moves[pool][to].add(pet);
+                }
+            }
+        }
+
+        double[] best = new double[groupCount + 1];
+        int[] predecessor = new int[groupCount + 1];
+        while (augment(free, best, predecessor)) {
+            // keep augmenting while some path still improves the total score
+        }
+
+        int[] result = new int[state.length];
+        for (int pet = 0; pet < state.length; pet++) {
+            result[pet] = state[pet] == pool ? UNASSIGNED : state[pet];
+        }
+        return result;
+    }
+
+    private boolean augment(int[] free, double[] best, int[] predecessor) {
+        Arrays.fill(best, Double.NEGATIVE_INFINITY);
+        Arrays.fill(predecessor, -1);
+        best[pool] = 0.0;
+
+        // Bellman-Ford longest path from the pool; the residual graph has no positive cycles
+        for (int round = 0; round <= groupCount; round++) {
+            boolean relaxed = false;
+            for (int from = 0; from <= groupCount; from++) {
+                if (best[from] == Double.NEGATIVE_INFINITY) {
+                    continue;
+                }
+                for (int to = 0; to < groupCount; to++) {
+                    Integer pet = from == to ? null : peek(from, to);
+                    if (pet != null) {
+                        double candidate = best[from] + gain(pet, from, to);
+                        if (candidate > best[to] + EPSILON) {
+                            best[to] = candidate;
+                            predecessor[to] = from;
+                            relaxed = true;
+                        }
+                    }
+                }
+            }
+            if (!relaxed) {
+                break;
+            }
+        }
+
+        int end = -1;
+        for (int group = 0; group < groupCount; group++) {
+            if (free[group] > 0 && best[group] > EPSILON && (end < 0 || best[group] > best[end])) {
+                end = group;
+            }
+        }
+        if (end < 0) {
+            return false;
+        }
+
+        free[end]--;
+        int to = end;
+        for (int steps = 0; to != pool && steps <= groupCount; steps++) {
+            int from = predecessor[to];
+            int pet = moves[from][to].poll();
+            state[pet] = to;
+            for (int next = 0; next < groupCount; next++) {
+                if (next != to) {
+                    moves[to][next].add(pet);
+                }
+            }
+            to = from;
+        }
+        return true;
+    }
+
+    private Integer peek(int from, int to) {
+        PriorityQueue<Integer> queue = moves[from][to];
+        Integer pet = queue.peek();
+        while (pet != null && state[pet] != from) {
+            queue.poll();
+            pet = queue.peek();
+        }
+        return pet;
+    }
+
+    private double gain(int pet, int from, int to) {
+        return scores[pet][to] - (from == pool ? 0.0 : scores[pet][from]);
+    }
+}
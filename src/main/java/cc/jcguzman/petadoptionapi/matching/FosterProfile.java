@@ -0,0 +1,19 @@
+package cc.jcguzman.petadoptionapi.matching;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+
+/**
+ * The attributes of a foster that scoring may depend on. Fosters sharing a profile
+ * are interchangeable to the matcher, which is what keeps the flow network small.
+ */
+public record FosterProfile(String preferredSpecies) {
+
+    public static FosterProfile of(Foster foster) {
+        String species = foster.getPreferredSpecies();
+        return new FosterProfile(species == null || species.isBlank() ? null : species.trim().toLowerCase());
+    }
+
+    public boolean hasSpeciesPreference() {
+        return preferredSpecies != null;
+    }
+}
@@ -0,0 +1,12 @@
+package cc.jcguzman.petadoptionapi.matching;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+
+/**
+ * Scores placing a pet with fosters of a given profile. Every {@code MatchScorer} bean
+ * contributes to the total; a placement is only made when the total is positive.
+ */
+public interface MatchScorer {
+
+    double score(Pet pet, FosterProfile profile);
+}
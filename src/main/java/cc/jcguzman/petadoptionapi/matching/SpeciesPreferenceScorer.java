@@ -0,0 +1,23 @@
+package cc.jcguzman.petadoptionapi.matching;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import org.springframework.stereotype.Component;
+
+/**
+ * Rewards placing a pet with a foster who prefers its species and penalizes a
+ * mismatch. Fosters without a preference are neutral.
+ */
+@Component
+public class SpeciesPreferenceScorer implements MatchScorer {
+
+    private static final double MATCH_BONUS = 10.0;
+    private static final double MISMATCH_PENALTY = -5.0;
+
+    @Override
+    public double score(Pet pet, FosterProfile profile) {
+        if (!profile.hasSpeciesPreference()) {
+            return 0.0;
+        }
+        return profile.preferredSpecies().equalsIgnoreCase(pet.getSpecies()) ? MATCH_BONUS : MISMATCH_PENALTY;
+    }
+}
@@ -0,0 +1,27 @@
+package cc.jcguzman.petadoptionapi.matching;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Favors pets that have been waiting longest since {@code dateArrived}. The base
+ * point makes any placement worthwhile on its own.
+ */
+@Component
+public class WaitTimeScorer implements MatchScorer {
+
+    private static final double BASE_SCORE = 1.0;
+    private static final double SCORE_PER_DAY = 0.1;
+
+    @Override
+    public double score(Pet pet, FosterProfile profile) {
+        if (pet.getDateArrived() == null) {
+            return BASE_SCORE;
+        }
+        long days = Math.max(0, Duration.between(pet.getDateArrived(), LocalDateTime.now()).toDays());
+        return BASE_SCORE + days * SCORE_PER_DAY;
+    }
+}
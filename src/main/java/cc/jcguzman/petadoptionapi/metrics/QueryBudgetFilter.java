@@ -0,0 +1,66 @@
+package cc.jcguzman.petadoptionapi.metrics;
+
+import cc.jcguzman.petadoptionapi.config.QueryBudgetProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request runs, including lazy loads during serialization,
+ * as {@code http.statements{method, uri}}. A request over its route's budget is logged
+ * with its most repeated statement, which names the table being loaded row by row, and
+ * counted in {@code query.budget.exceeded{method, uri}}.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private final QueryBudgetProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            chain.doFilter(request, response);
+
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String route = pattern != null ? pattern.toString() : "UNKNOWN";
+            DistributionSummary.builder("http.statements")
+                    .description("SQL statements run per request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", route)
+                    .register(meterRegistry)
+                    .record(scope.count());
+
+            int budget = properties.budgetFor(route);
+            if (scope.count() > budget) {
+                Counter.builder("query.budget.exceeded")
+                        .description("Requests that ran more SQL statements than their budget")
+                        .tag("method", request.getMethod())
+                        .tag("uri", route)
+                        .register(meterRegistry)
+                        .increment();
+                log.warn("{} {} ran {} SQL statements, over its budget of {}; most repeated: {}",
+                        request.getMethod(), route, scope.count(), budget, scope.mostRepeated());
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package cc.jcguzman.petadoptionapi.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. It is installed as
+ * the session factory's statement inspector and only counts inside a {@link Scope}, which
+ * {@link QueryBudgetFilter} opens per request and tests can open around any call. Scopes
+ * nest; a statement counts towards every scope open on the thread.
+ *
+ * <p>Statements issued through {@code JdbcTemplate}, or on another thread such as a
+ * streamed response body, are not seen.</p>
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+    private static final Pattern TABLE = Pattern.compile("\\b(?:from|into|update)\\s+([\\w.]+)",
+            Pattern.CASE_INSENSITIVE);
+
+    /** Starts counting on this thread until the returned scope is closed. */
+    public static Scope open() {
+        Scope scope = new Scope(CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        for (Scope scope = CURRENT.get(); scope != null; scope = scope.parent) {
+            scope.record(sql);
+        }
+        return sql;
+    }
+
+    /** The statement run most often in a scope and the table it reads or writes. */
+    public record Repeated(String table, String sql, int count) {
+
+        @Override
+        public String toString() {
+            return count + "x on " + table + ": " + sql;
+        }
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private final Scope parent;
+        private final Map<String, Integer> bySql = new HashMap<>();
+        private int count;
+
+        private Scope(Scope parent) {
+            this.parent = parent;
+        }
+
+        private void record(String sql) {
+            count++;
+            bySql.merge(sql, 1, Integer::sum);
+        }
+
+        public int count() {
+            return count;
+        }
+
+        /**
+         * The most repeated statement, which for a lazy-loading storm is the per-row select
+         * of the association, e.g. the foster behind each pet; null if nothing ran.
+         */
+        public Repeated mostRepeated() {
+            Map.Entry<String, Integer> top = null;
+            for (Map.Entry<String, Integer> entry : bySql.entrySet()) {
+                if (top == null || entry.getValue() > top.getValue()) {
+                    top = entry;
+                }
+            }
+            return top == null ? null : new Repeated(table(top.getKey()), top.getKey(), top.getValue());
+        }
+
+        @Override
+        public void close() {
+            if (CURRENT.get() == this) {
+                if (parent == null) {
+                    CURRENT.remove();
+                } else {
+                    CURRENT.set(parent);
+                }
+            }
+        }
+
+        private static String table(String sql) {
+            Matcher matcher = TABLE.matcher(sql);
+            return matcher.find() ? matcher.group(1).toLowerCase(Locale.ROOT) : "?";
+        }
+    }
+}
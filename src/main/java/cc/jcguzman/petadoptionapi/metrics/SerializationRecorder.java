@@ -0,0 +1,202 @@
+package cc.jcguzman.petadoptionapi.metrics;
+
+import cc.jcguzman.petadoptionapi.jfr.SerializationEvent;
+import cc.jcguzman.petadoptionapi.tracing.ChildSpans;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times body conversion for one message format as {@code http.serialization{format,
+ * direction}} and, while a flight recording has it enabled, emits a
+ * {@link SerializationEvent} with the body's size in bytes. The byte count needs the
+ * stream wrapped, which is only done when the event is on. Inside a sampled trace the
+ * conversion is also a {@code json write}-style span tagged with the body's type.
+ *
+ * <p>Writing includes copying into the response buffer, and a body larger than the buffer
+ * is flushed to the client as it is written, so slow clients can show up here.</p>
+ */
+final class SerializationRecorder {
+
+    interface Reading {
+        Object read(HttpInputMessage message) throws IOException;
+    }
+
+    interface Writing {
+        void write(HttpOutputMessage message) throws IOException;
+    }
+
+    private final String format;
+    private final Tracer tracer;
+    private final Timer readTimer;
+    private final Timer writeTimer;
+
+    SerializationRecorder(MeterRegistry registry, Tracer tracer, String format) {
+        this.format = format;
+        this.tracer = tracer;
+        this.readTimer = timer(registry, format, "read");
+        this.writeTimer = timer(registry, format, "write");
+    }
+
+    private static Timer timer(MeterRegistry registry, String format, String direction) {
+        return Timer.builder("http.serialization")
+                .description("Time spent converting request and response bodies")
+                .tag("format", format)
+                .tag("direction", direction)
+                .register(registry);
+    }
+
+    Object read(HttpInputMessage input, Reading reading) throws IOException {
+        SerializationEvent event = new SerializationEvent();
+        CountingInputStream counted = null;
+        HttpInputMessage message = input;
+        if (event.isEnabled()) {
+            counted = new CountingInputStream(input.getBody());
+            message = counting(input, counted);
+            event.begin();
+        }
+
+        Span span = ChildSpans.start(tracer, format + " read");
+        long start = System.nanoTime();
+        Object body = null;
+        try {
+            body = reading.read(message);
+            return body;
+        } finally {
+            readTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            end(span, body);
+            if (counted != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.describe(format, "read", body);
+                    event.bytes = counted.count;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    void write(Object body, HttpOutputMessage output, Writing writing) throws IOException {
+        SerializationEvent event = new SerializationEvent();
+        CountingOutputStream counted = null;
+        HttpOutputMessage message = output;
+        if (event.isEnabled()) {
+            counted = new CountingOutputStream(output.getBody());
+            message = counting(output, counted);
+            event.begin();
+        }
+
+        Span span = ChildSpans.start(tracer, format + " write");
+        long start = System.nanoTime();
+        try {
+            writing.write(message);
+        } finally {
+            writeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            end(span, body);
+            if (counted != null) {
+                event.end();
+                if (event.shouldCommit()) {
+                    event.describe(format, "write", body);
+                    event.bytes = counted.count;
+                    event.commit();
+                }
+            }
+        }
+    }
+
+    private static void end(Span span, Object body) {
+        if (span != null) {
+            if (body != null) {
+                span.tag("type", body.getClass().getSimpleName());
+            }
+            span.end();
+        }
+    }
+
+    private static HttpInputMessage counting(HttpInputMessage input, InputStream body) {
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return input.getHeaders();
+            }
+        };
+    }
+
+    private static HttpOutputMessage counting(HttpOutputMessage output, OutputStream body) {
+        return new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return body;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return output.getHeaders();
+            }
+        };
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count += n;
+            }
+            return n;
+        }
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] buffer, int offset, int length) throws IOException {
+            out.write(buffer, offset, length);
+            count += length;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package cc.jcguzman.petadoptionapi.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/** The JSON converter, timing every body it reads or writes; see {@link SerializationRecorder}. */
+public class TimedJsonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final SerializationRecorder recorder;
+
+    public TimedJsonHttpMessageConverter(ObjectMapper objectMapper, MeterRegistry registry, Tracer tracer) {
+        super(objectMapper);
+        this.recorder = new SerializationRecorder(registry, tracer, "json");
+    }
+
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage)
+            throws IOException {
+        return recorder.read(inputMessage, message -> super.read(type, contextClass, message));
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return recorder.read(inputMessage, message -> super.readInternal(clazz, message));
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException {
+        recorder.write(object, outputMessage, message -> super.writeInternal(object, type, message));
+    }
+}
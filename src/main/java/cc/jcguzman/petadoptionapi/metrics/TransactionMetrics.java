@@ -0,0 +1,58 @@
+package cc.jcguzman.petadoptionapi.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+
+/**
+ * Counts transactions by how they ended, as {@code transactions{outcome, read_only}}.
+ * Spring Boot registers listener beans with the transaction manager, which calls them
+ * only for the transactions it actually starts; joining an existing one is not counted.
+ */
+@Component
+public class TransactionMetrics implements TransactionExecutionListener {
+
+    private final Counter[] committed = new Counter[2];
+    private final Counter[] rolledBack = new Counter[2];
+    private final Counter[] failed = new Counter[2];
+
+    public TransactionMetrics(MeterRegistry registry) {
+        for (int readOnly = 0; readOnly < 2; readOnly++) {
+            committed[readOnly] = counter(registry, "commit", readOnly);
+            rolledBack[readOnly] = counter(registry, "rollback", readOnly);
+            failed[readOnly] = counter(registry, "failure", readOnly);
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String outcome, int readOnly) {
+        return Counter.builder("transactions")
+                .description("Transactions started by the transaction manager, by outcome")
+                .tag("outcome", outcome)
+                .tag("read_only", Boolean.toString(readOnly == 1))
+                .register(registry);
+    }
+
+    @Override
+    public void afterBegin(TransactionExecution transaction, @Nullable Throwable beginFailure) {
+        if (beginFailure != null) {
+            failed[index(transaction)].increment();
+        }
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        (commitFailure == null ? committed : failed)[index(transaction)].increment();
+    }
+
+    @Override
+    public void afterRollback(TransactionExecution transaction, @Nullable Throwable rollbackFailure) {
+        (rollbackFailure == null ? rolledBack : failed)[index(transaction)].increment();
+    }
+
+    private static int index(TransactionExecution transaction) {
+        return transaction.isReadOnly() ? 1 : 0;
+    }
+}
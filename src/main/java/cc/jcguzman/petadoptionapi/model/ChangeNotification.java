@@ -0,0 +1,44 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "Payload of one change feed event")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ChangeNotification {
+
+    @Schema(description = "Kind of change", example = "PET_ASSIGNED")
+    @JsonProperty("Type")
+    private ChangeEvent.Type type;
+
+    @Schema(description = "Pet affected, if any", example = "1")
+    @JsonProperty("PetId")
+    private Long petId;
+
+    @Schema(description = "Foster affected, if any", example = "2")
+    @JsonProperty("FosterId")
+    private Long fosterId;
+
+    @Schema(description = "Pet status after the change, if a pet is affected", example = "FOSTERED")
+    @JsonProperty("Status")
+    private Pet.Status status;
+
+    @Schema(description = "When the change was committed", example = "2024-11-04T10:00:00")
+    @JsonProperty("Timestamp")
+    private LocalDateTime timestamp;
+
+    public static ChangeNotification of(ChangeEvent event) {
+        return new ChangeNotification(event.type(), event.petId(), event.fosterId(), event.status(),
+                LocalDateTime.now());
+    }
+}
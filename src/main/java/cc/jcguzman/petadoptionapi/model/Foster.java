@@ -1,5 +1,6 @@
 package cc.jcguzman.petadoptionapi.model;
 
+import cc.jcguzman.petadoptionapi.stats.FosterContribution;
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
@@ -17,7 +18,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "fosters")
+@Table(name = "fosters", indexes = @Index(name = "idx_fosters_change_seq", columnList = "change_seq", unique = true))
+@EntityListeners(FosterEntityListener.class)
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
@@ -41,21 +43,65 @@ public class Foster extends User {
     @Column(nullable = false)
     private int maxPets = 3;
 
-    @OneToMany(mappedBy = "currentFoster", cascade = CascadeType.ALL, orphanRemoval = true)
+    @JsonProperty("PreferredSpecies")
+    @JacksonXmlProperty(localName = "PreferredSpecies")
+    private String preferredSpecies;
+
+    @JsonProperty(value = "ChangeSeq", access = JsonProperty.Access.READ_ONLY)
+    @JacksonXmlProperty(localName = "ChangeSeq")
+    @Column(name = "change_seq")
+    @EqualsAndHashCode.Exclude
+    private Long changeSeq;
+
+    @JsonProperty(value = "UpdatedAt", access = JsonProperty.Access.READ_ONLY)
+    @JacksonXmlProperty(localName = "UpdatedAt")
+    @EqualsAndHashCode.Exclude
+    private Instant updatedAt;
+
+    @OneToMany(mappedBy = "currentFoster", cascade = CascadeType.ALL)
     @JsonProperty("AssignedPets")
     @JacksonXmlElementWrapper(localName = "AssignedPets")
     @JacksonXmlProperty(localName = "Pet")
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     @JsonIgnoreProperties("currentFoster")
     private List<Pet> petsAssigned = new ArrayList<>();
 
+    @Transient
+    @JsonProperty(value = "DistanceKm", access = JsonProperty.Access.READ_ONLY)
+    @JacksonXmlProperty(localName = "DistanceKm")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @EqualsAndHashCode.Exclude
+    private Double distanceKm;
+
+    /** This foster's share of the shelter stats as last loaded or stored. */
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private FosterContribution statsContribution;
+
     public void unassignPet(Pet pet) {
-        if (petsAssigned.remove(pet)) {
-            pet.setCurrentFoster(null);
+        if (detachPet(pet)) {
             pet.setCurrentStatus(Pet.Status.AVAILABLE);
         }
     }
 
+    /**
+     * Takes the pet off this foster without touching its status, for a pet that moves
+     * straight on to another foster or out of the shelter: its history then records that
+     * one transition rather than a stay as AVAILABLE it never had.
+     */
+    public boolean detachPet(Pet pet) {
+        if (!petsAssigned.remove(pet)) {
+            return false;
+        }
+        // The pet list is the inverse side, so touch the foster to have its change stamped
+        updatedAt = Instant.now();
+        pet.setCurrentFoster(null);
+        return true;
+    }
+
     public boolean canAcceptMorePets() {
         return active && petsAssigned.size() < maxPets;
     }
@@ -66,10 +112,11 @@ public class Foster extends User {
         }
 
         if (pet.getCurrentFoster() != null && pet.getCurrentFoster() != this) {
-            pet.getCurrentFoster().unassignPet(pet);
+            pet.getCurrentFoster().detachPet(pet);
         }
 
         petsAssigned.add(pet);
+        updatedAt = Instant.now();
         pet.setCurrentFoster(this);
         pet.setCurrentStatus(Pet.Status.FOSTERED);
     }
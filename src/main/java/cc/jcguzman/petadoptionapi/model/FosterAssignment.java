@@ -0,0 +1,50 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Schema(description = "A single assign, unassign or move operation within an assignment batch")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JacksonXmlRootElement(localName = "Assignment")
+public class FosterAssignment {
+
+    @Schema(description = "Kind of operation", example = "MOVE", required = true)
+    @NotNull(message = "Operation type is required")
+    @JsonProperty("Type")
+    @JacksonXmlProperty(localName = "Type")
+    private Type type;
+
+    @Schema(description = "ID of the pet being assigned, unassigned or moved", example = "1", required = true)
+    @NotNull(message = "Pet id is required")
+    @JsonProperty("PetId")
+    @JacksonXmlProperty(localName = "PetId")
+    private Long petId;
+
+    @Schema(description = "Foster receiving the pet (ASSIGN) or currently holding it (UNASSIGN, MOVE)",
+            example = "1", required = true)
+    @NotNull(message = "Foster id is required")
+    @JsonProperty("FosterId")
+    @JacksonXmlProperty(localName = "FosterId")
+    private Long fosterId;
+
+    @Schema(description = "Foster receiving the pet; only used by MOVE", example = "2", nullable = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonProperty("TargetFosterId")
+    @JacksonXmlProperty(localName = "TargetFosterId")
+    private Long targetFosterId;
+
+    public enum Type {
+        ASSIGN,
+        UNASSIGN,
+        MOVE
+    }
+}
@@ -0,0 +1,59 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import cc.jcguzman.petadoptionapi.event.FosterChangedEvent;
+import cc.jcguzman.petadoptionapi.stats.FosterContribution;
+import cc.jcguzman.petadoptionapi.stats.ShelterAggregates;
+import cc.jcguzman.petadoptionapi.sync.ChangeSequence;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Stamps every write to a {@link Foster} with the next change sequence, turns JPA
+ * lifecycle callbacks into {@link FosterChangedEvent}s and feeds the difference each
+ * write makes to the {@link ShelterAggregates}.
+ */
+@Component
+@RequiredArgsConstructor
+public class FosterEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
+    private final ShelterAggregates shelterAggregates;
+
+    @PostLoad
+    void onLoad(Foster foster) {
+        foster.setStatsContribution(FosterContribution.of(foster));
+    }
+
+    @PrePersist
+    @PreUpdate
+    void stamp(Foster foster) {
+        foster.setChangeSeq(changeSequence.next());
+        foster.setUpdatedAt(Instant.now());
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onChange(Foster foster) {
+        FosterContribution stored = FosterContribution.of(foster);
+        shelterAggregates.recordFosterChange(foster.getStatsContribution(), stored);
+        foster.setStatsContribution(stored);
+        eventPublisher.publishEvent(new FosterChangedEvent(foster.getId()));
+    }
+
+    @PostRemove
+    void onRemove(Foster foster) {
+        shelterAggregates.recordFosterChange(foster.getStatsContribution(), null);
+        foster.setStatsContribution(null);
+        eventPublisher.publishEvent(new FosterChangedEvent(foster.getId()));
+    }
+}
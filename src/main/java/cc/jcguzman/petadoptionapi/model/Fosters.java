@@ -1,5 +1,6 @@
 package cc.jcguzman.petadoptionapi.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
@@ -22,6 +23,16 @@ public class Fosters {
     @JacksonXmlProperty(localName = "Foster")
     private List<Foster> fosters;
 
+    @JsonProperty("MissingIds")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JacksonXmlElementWrapper(localName = "MissingIds")
+    @JacksonXmlProperty(localName = "id")
+    private List<Long> missingIds = new ArrayList<>();
+
+    public Fosters(List<Foster> fosters) {
+        this(fosters, new ArrayList<>());
+    }
+
     public static Fosters fromList(List<Foster> fosterList) {
         return new Fosters(new ArrayList<>(fosterList));
     }
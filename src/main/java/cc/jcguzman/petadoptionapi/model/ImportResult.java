@@ -0,0 +1,71 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Outcome of a CSV import")
+@Data
+@NoArgsConstructor
+@JacksonXmlRootElement(localName = "ImportResult")
+public class ImportResult {
+
+    /** Only the first errors are listed; the rest are counted. */
+    public static final int MAX_LISTED_ERRORS = 100;
+
+    @Schema(description = "Rows stored", example = "9998")
+    @JsonProperty("Imported")
+    @JacksonXmlProperty(localName = "Imported")
+    private long imported;
+
+    @Schema(description = "Rows skipped because they could not be read, were invalid or could not be stored", example = "2")
+    @JsonProperty("Rejected")
+    @JacksonXmlProperty(localName = "Rejected")
+    private long rejected;
+
+    @Schema(description = "False if the file became unreadable and the rest of it was not processed")
+    @JsonProperty("Complete")
+    @JacksonXmlProperty(localName = "Complete")
+    private boolean complete = true;
+
+    @Schema(description = "Why rows were rejected, for the first " + MAX_LISTED_ERRORS + " rejected rows")
+    @JsonProperty("Errors")
+    @JacksonXmlElementWrapper(localName = "Errors")
+    @JacksonXmlProperty(localName = "Error")
+    private List<RowError> errors = new ArrayList<>();
+
+    public void addImported(long count) {
+        imported += count;
+    }
+
+    public void reject(long row, String message) {
+        rejected++;
+        if (errors.size() < MAX_LISTED_ERRORS) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+
+        @Schema(description = "One-based number of the data row, not counting the header", example = "17")
+        @JsonProperty("Row")
+        @JacksonXmlProperty(localName = "Row")
+        private long row;
+
+        @Schema(example = "urgency: must be less than or equal to 3")
+        @JsonProperty("Message")
+        @JacksonXmlProperty(localName = "Message")
+        private String message;
+    }
+}
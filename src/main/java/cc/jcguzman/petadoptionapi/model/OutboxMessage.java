@@ -0,0 +1,62 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * A change waiting to be delivered to one downstream destination. Rows are written in
+ * the transaction that makes the change and deleted once delivered.
+ */
+@Entity
+@Table(name = "outbox_messages",
+        indexes = @Index(name = "idx_outbox_destination_status", columnList = "destination, status, id"))
+@Data
+@NoArgsConstructor
+public class OutboxMessage {
+
+    // A pooled sequence rather than IDENTITY, so inserts of a busy transaction are JDBC-batched
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_seq")
+    @SequenceGenerator(name = "outbox_seq", sequenceName = "outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String destination;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 32)
+    private ChangeEvent.Type eventType;
+
+    @Column(nullable = false, length = 1000)
+    private String payload;
+
+    @Column(nullable = false)
+    private Instant createdAt = Instant.now();
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private Status status = Status.PENDING;
+
+    private int attempts;
+
+    @Column(nullable = false)
+    private Instant nextAttemptAt = createdAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    public enum Status {
+        PENDING,
+        FAILED
+    }
+
+    public OutboxMessage(String destination, ChangeEvent.Type eventType, String payload) {
+        this.destination = destination;
+        this.eventType = eventType;
+        this.payload = payload;
+    }
+}
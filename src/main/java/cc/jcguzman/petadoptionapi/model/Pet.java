@@ -1,18 +1,25 @@
 package cc.jcguzman.petadoptionapi.model;
 
+import cc.jcguzman.petadoptionapi.stats.PetContribution;
 import com.fasterxml.jackson.annotation.*;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 @Entity
-@Table(name = "pets")
+@Table(name = "pets", indexes = @Index(name = "idx_pets_change_seq", columnList = "change_seq", unique = true))
+@EntityListeners(PetEntityListener.class)
 @Data
 @NoArgsConstructor
 @JacksonXmlRootElement(localName = "Pet")
@@ -67,11 +74,18 @@ public class Pet {
     @JacksonXmlProperty(localName = "AdoptionFee")
     private double adoptionFee;
 
+    @Min(0)
+    @Max(3)
+    @JsonProperty("Urgency")
+    @JacksonXmlProperty(localName = "Urgency")
+    private int urgency;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "foster_id")
     @JsonIgnoreProperties({"petsAssigned", "hibernateLazyInitializer"})
     @JsonIgnore
     @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private Foster currentFoster;
 
     @Enumerated(EnumType.STRING)
@@ -79,11 +93,74 @@ public class Pet {
     @JacksonXmlProperty(localName = "CurrentStatus")
     private Status currentStatus = Status.AVAILABLE;
 
+    @JsonProperty(value = "Change_Seq", access = JsonProperty.Access.READ_ONLY)
+    @JacksonXmlProperty(localName = "ChangeSeq")
+    @Column(name = "change_seq")
+    @EqualsAndHashCode.Exclude
+    private Long changeSeq;
+
+    @JsonProperty(value = "Updated_At", access = JsonProperty.Access.READ_ONLY)
+    @JacksonXmlProperty(localName = "UpdatedAt")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    @EqualsAndHashCode.Exclude
+    private LocalDateTime updatedAt;
+
+    @OneToMany(mappedBy = "pet", cascade = {CascadeType.PERSIST, CascadeType.MERGE})
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private List<PetStatusChange> statusChanges = new ArrayList<>();
+
+    /** This pet's share of the shelter stats as last loaded or stored. */
+    @Transient
+    @JsonIgnore
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private PetContribution statsContribution;
+
     public enum Status {
-        FOSTERED,
-        AVAILABLE,
-        ADOPTED,
-        REMOVED
+        FOSTERED('F'),
+        AVAILABLE('A'),
+        ADOPTED('D'),
+        REMOVED('R');
+
+        /** Stable one-character code used by the status history table. */
+        private final char code;
+
+        Status(char code) {
+            this.code = code;
+        }
+
+        public char getCode() {
+            return code;
+        }
+
+        public static Status ofCode(char code) {
+            for (Status status : values()) {
+                if (status.code == code) {
+                    return status;
+                }
+            }
+            throw new IllegalArgumentException("Unknown status code: " + code);
+        }
+    }
+
+    /**
+     * Sets the status and, for a stored pet, appends the transition to its history. The
+     * history is an inverse bag, so the new row is queued without loading earlier ones.
+     */
+    public void setCurrentStatus(Status status) {
+        if (status != currentStatus && id != null) {
+            statusChanges.add(new PetStatusChange(this, currentStatus, status));
+        }
+        currentStatus = status;
+    }
+
+    /** Records the status a new pet starts with; called before it is first stored. */
+    void recordInitialStatus() {
+        if (statusChanges.isEmpty()) {
+            statusChanges.add(new PetStatusChange(this, null, currentStatus));
+        }
     }
 
     @JsonProperty("Foster_Id")
@@ -102,8 +179,8 @@ public class Pet {
         if (currentFoster != null) {
             Foster foster = currentFoster;
             currentFoster = null;
-            foster.unassignPet(this);
+            foster.detachPet(this);
         }
-        currentStatus = Status.REMOVED;
+        setCurrentStatus(Status.REMOVED);
     }
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import cc.jcguzman.petadoptionapi.event.PetChangedEvent;
+import cc.jcguzman.petadoptionapi.stats.PetContribution;
+import cc.jcguzman.petadoptionapi.stats.ShelterAggregates;
+import cc.jcguzman.petadoptionapi.sync.ChangeSequence;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Stamps every write to a {@link Pet} with the next change sequence, turns JPA
+ * lifecycle callbacks into {@link PetChangedEvent}s and feeds the difference each write
+ * makes to the {@link ShelterAggregates}. Hibernate obtains this listener
+ * from the Spring context, so it can use Spring beans.
+ */
+@Component
+@RequiredArgsConstructor
+public class PetEntityListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ChangeSequence changeSequence;
+    private final ShelterAggregates shelterAggregates;
+
+    @PostLoad
+    void onLoad(Pet pet) {
+        pet.setStatsContribution(PetContribution.of(pet));
+    }
+
+    @PrePersist
+    void onCreate(Pet pet) {
+        pet.recordInitialStatus();
+        stamp(pet);
+    }
+
+    @PreUpdate
+    void stamp(Pet pet) {
+        pet.setChangeSeq(changeSequence.next());
+        pet.setUpdatedAt(LocalDateTime.now());
+    }
+
+    @PostPersist
+    @PostUpdate
+    void onChange(Pet pet) {
+        PetContribution stored = PetContribution.of(pet);
+        shelterAggregates.recordPetChange(pet.getStatsContribution(), stored);
+        pet.setStatsContribution(stored);
+        eventPublisher.publishEvent(new PetChangedEvent(pet.getId()));
+    }
+
+    @PostRemove
+    void onRemove(Pet pet) {
+        shelterAggregates.recordPetChange(pet.getStatsContribution(), null);
+        pet.setStatsContribution(null);
+        eventPublisher.publishEvent(new PetChangedEvent(pet.getId()));
+    }
+}
@@ -0,0 +1,135 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Result of an ad-hoc pet report")
+@Data
+@NoArgsConstructor
+@JacksonXmlRootElement(localName = "PetReport")
+public class PetReport {
+
+    @Schema(description = "Pets in the snapshot the report ran on", example = "1000000")
+    @JsonProperty("ScannedPets")
+    @JacksonXmlProperty(localName = "ScannedPets")
+    private long scannedPets;
+
+    @Schema(description = "Pets that passed the filters", example = "412345")
+    @JsonProperty("MatchedPets")
+    @JacksonXmlProperty(localName = "MatchedPets")
+    private long matchedPets;
+
+    @Schema(description = "When the snapshot was taken; changes after it are not yet reflected")
+    @JsonProperty("SnapshotTakenAt")
+    @JacksonXmlProperty(localName = "SnapshotTakenAt")
+    private Instant snapshotTakenAt;
+
+    @Schema(description = "Time spent evaluating the report, excluding any snapshot load", example = "12")
+    @JsonProperty("ElapsedMillis")
+    @JacksonXmlProperty(localName = "ElapsedMillis")
+    private long elapsedMillis;
+
+    @Schema(description = "One entry per non-empty group, ordered by the grouped columns")
+    @JsonProperty("Groups")
+    @JacksonXmlElementWrapper(localName = "Groups")
+    @JacksonXmlProperty(localName = "Group")
+    private List<Group> groups = new ArrayList<>();
+
+    /** A group's key columns are only present when the report groups by them. */
+    @Data
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Group {
+
+        @JsonProperty("Species")
+        @JacksonXmlProperty(localName = "Species")
+        private String species;
+
+        @JsonProperty("Breed")
+        @JacksonXmlProperty(localName = "Breed")
+        private String breed;
+
+        @JsonProperty("Gender")
+        @JacksonXmlProperty(localName = "Gender")
+        private String gender;
+
+        @JsonProperty("Color")
+        @JacksonXmlProperty(localName = "Color")
+        private String color;
+
+        @JsonProperty("Status")
+        @JacksonXmlProperty(localName = "Status")
+        private Pet.Status status;
+
+        @Schema(description = "Lowest age in the age bucket", example = "3")
+        @JsonProperty("AgeFrom")
+        @JacksonXmlProperty(localName = "AgeFrom")
+        private Integer ageFrom;
+
+        @Schema(description = "Highest age in the age bucket", example = "5")
+        @JsonProperty("AgeTo")
+        @JacksonXmlProperty(localName = "AgeTo")
+        private Integer ageTo;
+
+        @JsonProperty("Urgency")
+        @JacksonXmlProperty(localName = "Urgency")
+        private Integer urgency;
+
+        @JsonProperty("Count")
+        @JacksonXmlProperty(localName = "Count")
+        private long count;
+
+        @JsonProperty("AverageAge")
+        @JacksonXmlProperty(localName = "AverageAge")
+        private double averageAge;
+
+        @JsonProperty("FeeTotal")
+        @JacksonXmlProperty(localName = "FeeTotal")
+        private double feeTotal;
+
+        @JsonProperty("FeeAverage")
+        @JacksonXmlProperty(localName = "FeeAverage")
+        private double feeAverage;
+
+        @JsonProperty("FeeMin")
+        @JacksonXmlProperty(localName = "FeeMin")
+        private double feeMin;
+
+        @JsonProperty("FeeMax")
+        @JacksonXmlProperty(localName = "FeeMax")
+        private double feeMax;
+
+        @Schema(description = "Requested fee percentiles, nearest-rank")
+        @JsonProperty("FeePercentiles")
+        @JacksonXmlElementWrapper(localName = "FeePercentiles")
+        @JacksonXmlProperty(localName = "FeePercentile")
+        private List<FeePercentile> feePercentiles;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FeePercentile {
+
+        @Schema(example = "90")
+        @JsonProperty("Percentile")
+        @JacksonXmlProperty(localName = "Percentile")
+        private double percentile;
+
+        @Schema(example = "275.0")
+        @JsonProperty("Fee")
+        @JacksonXmlProperty(localName = "Fee")
+        private double fee;
+    }
+}
@@ -0,0 +1,97 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One entry of the append-only pet status history. Rows are fixed width - ids, a
+ * timestamp and one-character status codes, no variable-length columns - and are never
+ * updated. Both query shapes, one pet over time and one status over time, are served by
+ * a composite index ending in {@code changed_at}.
+ */
+@Entity
+@Immutable
+@Table(name = "pet_status_history", indexes = {
+        @Index(name = "idx_status_history_pet", columnList = "pet_id, changed_at"),
+        @Index(name = "idx_status_history_status", columnList = "to_status, changed_at")
+})
+@Getter
+@NoArgsConstructor
+@JacksonXmlRootElement(localName = "StatusChange")
+@JsonPropertyOrder({"PetId", "From", "To", "FosterId", "ChangedAt"})
+public class PetStatusChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pet_status_history_seq")
+    @SequenceGenerator(name = "pet_status_history_seq", sequenceName = "pet_status_history_seq", allocationSize = 50)
+    @JsonIgnore
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "pet_id", nullable = false, updatable = false)
+    @JsonIgnore
+    private Pet pet;
+
+    @Convert(converter = PetStatusCodeConverter.class)
+    @Column(name = "from_status", columnDefinition = "CHAR(1)", updatable = false)
+    @JsonProperty("From")
+    @JacksonXmlProperty(localName = "From")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Pet.Status fromStatus;
+
+    @Convert(converter = PetStatusCodeConverter.class)
+    @Column(name = "to_status", columnDefinition = "CHAR(1)", nullable = false, updatable = false)
+    @JsonProperty("To")
+    @JacksonXmlProperty(localName = "To")
+    private Pet.Status toStatus;
+
+    // A plain id rather than an association, so history outlives foster changes untouched
+    @Column(name = "foster_id", updatable = false)
+    @JsonProperty("FosterId")
+    @JacksonXmlProperty(localName = "FosterId")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long fosterId;
+
+    @Column(name = "changed_at", nullable = false, updatable = false)
+    @JsonProperty("ChangedAt")
+    @JacksonXmlProperty(localName = "ChangedAt")
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime changedAt;
+
+    PetStatusChange(Pet pet, Pet.Status fromStatus, Pet.Status toStatus) {
+        this.pet = pet;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.fosterId = pet.getFosterId();
+        this.changedAt = LocalDateTime.now();
+    }
+
+    /**
+     * The first entry of a pet stored without going through {@link Pet}, such as by a
+     * bulk import. The pet may be an unloaded reference; it is not read.
+     */
+    public static PetStatusChange initial(Pet pet, Pet.Status status, LocalDateTime changedAt) {
+        PetStatusChange change = new PetStatusChange();
+        change.pet = pet;
+        change.toStatus = status;
+        change.changedAt = changedAt;
+        return change;
+    }
+
+    @JsonProperty("PetId")
+    @JacksonXmlProperty(localName = "PetId")
+    public Long getPetId() {
+        return pet.getId();
+    }
+}
@@ -0,0 +1,21 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stores a {@link Pet.Status} as its one-character code instead of its name.
+ */
+@Converter
+public class PetStatusCodeConverter implements AttributeConverter<Pet.Status, Character> {
+
+    @Override
+    public Character convertToDatabaseColumn(Pet.Status status) {
+        return status != null ? status.getCode() : null;
+    }
+
+    @Override
+    public Pet.Status convertToEntityAttribute(Character code) {
+        return code != null ? Pet.Status.ofCode(code) : null;
+    }
+}
@@ -1,5 +1,6 @@
 package cc.jcguzman.petadoptionapi.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
@@ -22,6 +23,16 @@ public class Pets {
     @JacksonXmlProperty(localName = "Pet")
     private List<Pet> petList;
 
+    @JsonProperty("MissingIds")
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
+    @JacksonXmlElementWrapper(localName = "MissingIds")
+    @JacksonXmlProperty(localName = "id")
+    private List<Long> missingIds = new ArrayList<>();
+
+    public Pets(List<Pet> petList) {
+        this(petList, new ArrayList<>());
+    }
+
     public static Pets of(List<Pet> pets) {
         return new Pets(new ArrayList<>(pets));
     }
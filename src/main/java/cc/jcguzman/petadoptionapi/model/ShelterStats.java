@@ -0,0 +1,108 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Shelter-wide totals, maintained as pets and fosters change")
+@Data
+@NoArgsConstructor
+@JacksonXmlRootElement(localName = "ShelterStats")
+public class ShelterStats {
+
+    @Schema(description = "All pets on record, in any status", example = "42")
+    @JsonProperty("TotalPets")
+    @JacksonXmlProperty(localName = "TotalPets")
+    private long totalPets;
+
+    @Schema(description = "Pet counts and fee totals per species and status")
+    @JsonProperty("Groups")
+    @JacksonXmlElementWrapper(localName = "Groups")
+    @JacksonXmlProperty(localName = "Group")
+    private List<Group> groups = new ArrayList<>();
+
+    @Schema(description = "Adoption fees of pets currently available", example = "1250.00")
+    @JsonProperty("AvailableFeeTotal")
+    @JacksonXmlProperty(localName = "AvailableFeeTotal")
+    private double availableFeeTotal;
+
+    @Schema(description = "Adoption fees of pets that have been adopted", example = "3400.00")
+    @JsonProperty("AdoptedFeeTotal")
+    @JacksonXmlProperty(localName = "AdoptedFeeTotal")
+    private double adoptedFeeTotal;
+
+    @Schema(description = "Available and fostered pets with a known arrival date", example = "30")
+    @JsonProperty("PetsInCare")
+    @JacksonXmlProperty(localName = "PetsInCare")
+    private long petsInCare;
+
+    @Schema(description = "Average days since arrival of the pets in care; absent when there are none",
+            example = "17.5")
+    @JsonProperty("AverageLengthOfStayDays")
+    @JacksonXmlProperty(localName = "AverageLengthOfStayDays")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double averageLengthOfStayDays;
+
+    @Schema(description = "Number of active fosters", example = "8")
+    @JsonProperty("ActiveFosters")
+    @JacksonXmlProperty(localName = "ActiveFosters")
+    private long activeFosters;
+
+    @Schema(description = "Total pets the active fosters can take", example = "24")
+    @JsonProperty("FosterCapacity")
+    @JacksonXmlProperty(localName = "FosterCapacity")
+    private long fosterCapacity;
+
+    @Schema(description = "Pets currently placed with a foster", example = "12")
+    @JsonProperty("PlacedPets")
+    @JacksonXmlProperty(localName = "PlacedPets")
+    private long placedPets;
+
+    @Schema(description = "Placed pets divided by foster capacity; absent when there is no capacity", example = "0.5")
+    @JsonProperty("FosterUtilization")
+    @JacksonXmlProperty(localName = "FosterUtilization")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double fosterUtilization;
+
+    @Schema(description = "When the totals were last checked against the database")
+    @JsonProperty("ReconciledAt")
+    @JacksonXmlProperty(localName = "ReconciledAt")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Instant reconciledAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Group {
+
+        @Schema(example = "Dog")
+        @JsonProperty("Species")
+        @JacksonXmlProperty(localName = "Species")
+        private String species;
+
+        @Schema(example = "AVAILABLE")
+        @JsonProperty("Status")
+        @JacksonXmlProperty(localName = "Status")
+        private Pet.Status status;
+
+        @Schema(example = "12")
+        @JsonProperty("Count")
+        @JacksonXmlProperty(localName = "Count")
+        private long count;
+
+        @Schema(description = "Sum of the group's adoption fees", example = "600.00")
+        @JsonProperty("FeeTotal")
+        @JacksonXmlProperty(localName = "FeeTotal")
+        private double feeTotal;
+    }
+}
@@ -0,0 +1,61 @@
+package cc.jcguzman.petadoptionapi.model;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlElementWrapper;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
+import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlRootElement;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Schema(description = "Pets and fosters changed since a sync cursor")
+@Data
+@NoArgsConstructor
+@JacksonXmlRootElement(localName = "SyncPage")
+public class SyncPage {
+
+    @Schema(description = "Cursor the page was requested with", example = "120")
+    @JsonProperty("Since")
+    @JacksonXmlProperty(localName = "Since")
+    private long since;
+
+    @Schema(description = "Cursor to pass as 'since' on the next call", example = "220")
+    @JsonProperty("Next")
+    @JacksonXmlProperty(localName = "Next")
+    private long next;
+
+    @Schema(description = "Whether more changes are waiting; if so, call again right away with 'Next'")
+    @JsonProperty("HasMore")
+    @JacksonXmlProperty(localName = "HasMore")
+    private boolean hasMore;
+
+    @Schema(description = "The cursor is ahead of the server, e.g. after a data reset; discard local data and sync from 0")
+    @JsonProperty("Reset")
+    @JacksonXmlProperty(localName = "Reset")
+    private boolean reset;
+
+    @JsonProperty("Pets")
+    @JacksonXmlElementWrapper(localName = "Pets")
+    @JacksonXmlProperty(localName = "Pet")
+    private List<Pet> pets = new ArrayList<>();
+
+    @JsonProperty("Fosters")
+    @JacksonXmlElementWrapper(localName = "Fosters")
+    @JacksonXmlProperty(localName = "Foster")
+    private List<Foster> fosters = new ArrayList<>();
+
+    @Schema(description = "Tombstones: pets that were removed and should be deleted locally")
+    @JsonProperty("RemovedPetIds")
+    @JacksonXmlElementWrapper(localName = "RemovedPetIds")
+    @JacksonXmlProperty(localName = "PetId")
+    private List<Long> removedPetIds = new ArrayList<>();
+
+    @Schema(description = "Tombstones: fosters that were deactivated and should be deleted locally")
+    @JsonProperty("DeactivatedFosterIds")
+    @JacksonXmlElementWrapper(localName = "DeactivatedFosterIds")
+    @JacksonXmlProperty(localName = "FosterId")
+    private List<Long> deactivatedFosterIds = new ArrayList<>();
+}
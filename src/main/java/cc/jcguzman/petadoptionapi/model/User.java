@@ -3,6 +3,8 @@ package cc.jcguzman.petadoptionapi.model;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.dataformat.xml.annotation.JacksonXmlProperty;
 import jakarta.persistence.*;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -49,4 +51,16 @@ public abstract class User {
     @JacksonXmlProperty(localName = "Email")
     @Column(nullable = false, unique = true)
     private String email;
+
+    @DecimalMin(value = "-90.0", message = "Latitude must be between -90 and 90")
+    @DecimalMax(value = "90.0", message = "Latitude must be between -90 and 90")
+    @JsonProperty("Latitude")
+    @JacksonXmlProperty(localName = "Latitude")
+    private Double latitude;
+
+    @DecimalMin(value = "-180.0", message = "Longitude must be between -180 and 180")
+    @DecimalMax(value = "180.0", message = "Longitude must be between -180 and 180")
+    @JsonProperty("Longitude")
+    @JacksonXmlProperty(localName = "Longitude")
+    private Double longitude;
 }
\ No newline at end of file
@@ -0,0 +1,45 @@
+package cc.jcguzman.petadoptionapi.recommendation;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Schema(description = "Preferences of a prospective adopter; every field is optional")
+@Data
+public class AdopterProfile {
+
+    @Schema(description = "Preferred species", example = "Dog")
+    private String species;
+
+    @Schema(description = "Preferred size, derived from the pet's weight", example = "MEDIUM")
+    private Size size;
+
+    @Schema(description = "Youngest acceptable age in years", example = "1")
+    private Integer minAge;
+
+    @Schema(description = "Oldest acceptable age in years", example = "5")
+    private Integer maxAge;
+
+    @Schema(description = "Maximum adoption fee; pets above it are never recommended", example = "250.0")
+    private Double budget;
+
+    @Schema(description = "Temperament keywords to look for", example = "friendly,playful")
+    private List<String> temperament;
+
+    public enum Size {
+        SMALL(10),
+        MEDIUM(25),
+        LARGE(Double.MAX_VALUE);
+
+        private final double maxWeight;
+
+        Size(double maxWeight) {
+            this.maxWeight = maxWeight;
+        }
+
+        public static Size ofWeight(double weight) {
+            return weight < SMALL.maxWeight ? SMALL : weight < MEDIUM.maxWeight ? MEDIUM : LARGE;
+        }
+    }
+}
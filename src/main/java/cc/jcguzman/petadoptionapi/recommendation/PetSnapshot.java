@@ -0,0 +1,98 @@
+package cc.jcguzman.petadoptionapi.recommendation;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable column-per-attribute copy of the available pets. Strings are dictionary
+ * encoded: species to a small int code, temperament words to bits of a 64-bit mask
+ * (words past the 64th share hashed bits, which can only add false positives).
+ */
+public final class PetSnapshot {
+
+    final long[] ids;
+    final int[] species;
+    final byte[] size;
+    final int[] age;
+    final double[] fee;
+    final long[] temperament;
+
+    private final Map<String, Integer> speciesCodes;
+    private final Map<String, Integer> temperamentBits;
+
+    private PetSnapshot(long[] ids, int[] species, byte[] size, int[] age, double[] fee, long[] temperament,
+                        Map<String, Integer> speciesCodes, Map<String, Integer> temperamentBits) {
+        this.ids = ids;
+        this.species = species;
+        this.size = size;
+        this.age = age;
+        this.fee = fee;
+        this.temperament = temperament;
+        this.speciesCodes = speciesCodes;
+        this.temperamentBits = temperamentBits;
+    }
+
+    /**
+     * Builds a snapshot from rows of {@code id, species, weight, age, adoptionFee, temperament}.
+     */
+    public static PetSnapshot of(List<Object[]> rows) {
+        int count = rows.size();
+        long[] ids = new long[count];
+        int[] species = new int[count];
+        byte[] size = new byte[count];
+        int[] age = new int[count];
+        double[] fee = new double[count];
+        long[] temperament = new long[count];
+        Map<String, Integer> speciesCodes = new HashMap<>();
+        Map<String, Integer> temperamentBits = new HashMap<>();
+
+        for (int i = 0; i < count; i++) {
+            Object[] row = rows.get(i);
+            ids[i] = (Long) row[0];
+            species[i] = speciesCodes.computeIfAbsent(normalize((String) row[1]), key -> speciesCodes.size());
+            size[i] = (byte) AdopterProfile.Size.ofWeight((Double) row[2]).ordinal();
+            age[i] = (Integer) row[3];
+            fee[i] = (Double) row[4];
+            temperament[i] = encode((String) row[5], temperamentBits, true);
+        }
+        return new PetSnapshot(ids, species, size, age, fee, temperament, speciesCodes, temperamentBits);
+    }
+
+    public int size() {
+        return ids.length;
+    }
+
+    /** Species code, or -1 when no pet in the snapshot has the species. */
+    int speciesCode(String name) {
+        return speciesCodes.getOrDefault(normalize(name), -1);
+    }
+
+    long temperamentMask(List<String> keywords) {
+        return encode(String.join(" ", keywords), temperamentBits, false);
+    }
+
+    private static long encode(String text, Map<String, Integer> bits, boolean grow) {
+        if (text == null) {
+            return 0L;
+        }
+        long mask = 0L;
+        for (String word : normalize(text).split("[^a-z]+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            Integer bit = bits.get(word);
+            if (bit == null && grow && bits.size() < Long.SIZE) {
+                bit = bits.size();
+                bits.put(word, bit);
+            }
+            mask |= 1L << (bit != null ? bit : Math.floorMod(word.hashCode(), Long.SIZE));
+        }
+        return mask;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
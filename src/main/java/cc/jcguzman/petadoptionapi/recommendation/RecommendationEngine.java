@@ -0,0 +1,209 @@
+package cc.jcguzman.petadoptionapi.recommendation;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Scores every pet of a {@link PetSnapshot} against an adopter profile and keeps the
+ * best K. Chunks of the snapshot are scored in parallel on the common fork/join pool,
+ * each into its own bounded min-heap, and the partial heaps are merged on the way up.
+ */
+public final class RecommendationEngine {
+
+    private static final int CHUNK_SIZE = 8_192;
+
+    private static final double SPECIES_MATCH = 3.0;
+    private static final double SIZE_MATCH = 2.0;
+    private static final double SIZE_ADJACENT = 0.5;
+    private static final double AGE_IN_RANGE = 2.0;
+    private static final double AGE_PENALTY_PER_YEAR = 0.25;
+    private static final double WITHIN_BUDGET = 1.0;
+    private static final double PER_TEMPERAMENT_MATCH = 1.5;
+
+    private RecommendationEngine() {
+    }
+
+    /**
+     * @return ids of the best {@code limit} pets, best first
+     */
+    public static long[] recommend(PetSnapshot snapshot, AdopterProfile profile, int limit) {
+        if (snapshot.size() == 0 || limit <= 0) {
+            return new long[0];
+        }
+        Query query = new Query(snapshot, profile);
+        TopK top = ForkJoinPool.commonPool().invoke(new ScoreTask(snapshot, query, 0, snapshot.size(), limit));
+
+        int[] order = top.drainBestFirst();
+        long[] ids = new long[order.length];
+        for (int i = 0; i < order.length; i++) {
+            ids[i] = snapshot.ids[order[i]];
+        }
+        return ids;
+    }
+
+    /** The profile compiled against the snapshot's dictionaries. */
+    private static final class Query {
+        final boolean anySpecies;
+        final int species;
+        final int size;
+        final int minAge;
+        final int maxAge;
+        final double budget;
+        final long temperament;
+
+        Query(PetSnapshot snapshot, AdopterProfile profile) {
+            anySpecies = profile.getSpecies() == null || profile.getSpecies().isBlank();
+            species = anySpecies ? -1 : snapshot.speciesCode(profile.getSpecies());
+            size = profile.getSize() != null ? profile.getSize().ordinal() : -1;
+            minAge = profile.getMinAge() != null ? profile.getMinAge() : Integer.MIN_VALUE;
+            maxAge = profile.getMaxAge() != null ? profile.getMaxAge() : Integer.MAX_VALUE;
+            budget = profile.getBudget() != null ? profile.getBudget() : Double.POSITIVE_INFINITY;
+            temperament = profile.getTemperament() != null ? snapshot.temperamentMask(profile.getTemperament()) : 0L;
+        }
+    }
+
+    private static final class ScoreTask extends RecursiveTask<TopK> {
+        private final PetSnapshot snapshot;
+        private final Query query;
+        private final int from;
+        private final int to;
+        private final int limit;
+
+        ScoreTask(PetSnapshot snapshot, Query query, int from, int to, int limit) {
+            this.snapshot = snapshot;
+            this.query = query;
+            this.from = from;
+            this.to = to;
+            this.limit = limit;
+        }
+
+        @Override
+        protected TopK compute() {
+            if (to - from > CHUNK_SIZE) {
+                int middle = (from + to) >>> 1;
+                ScoreTask left = new ScoreTask(snapshot, query, from, middle, limit);
+                left.fork();
+                TopK right = new ScoreTask(snapshot, query, middle, to, limit).compute();
+                return left.join().mergeFrom(right);
+            }
+
+            TopK top = new TopK(limit);
+            int[] species = snapshot.species;
+            byte[] size = snapshot.size;
+            int[] age = snapshot.age;
+            double[] fee = snapshot.fee;
+            long[] temperament = snapshot.temperament;
+
+            for (int i = from; i < to; i++) {
+                if (fee[i] > query.budget) {
+                    continue;
+                }
+                double score = WITHIN_BUDGET;
+                if (!query.anySpecies && species[i] == query.species) {
+                    score += SPECIES_MATCH;
+                }
+                if (query.size >= 0) {
+                    int distance = Math.abs(size[i] - query.size);
+                    score += distance == 0 ? SIZE_MATCH : distance == 1 ? SIZE_ADJACENT : 0.0;
+                }
+                if (age[i] < query.minAge) {
+                    score -= (query.minAge - age[i]) * AGE_PENALTY_PER_YEAR;
+                } else if (age[i] > query.maxAge) {
+                    score -= (age[i] - query.maxAge) * AGE_PENALTY_PER_YEAR;
+                } else {
+                    score += AGE_IN_RANGE;
+                }
+                score += Long.bitCount(temperament[i] & query.temperament) * PER_TEMPERAMENT_MATCH;
+                top.offer(score, i);
+            }
+            return top;
+        }
+    }
+
+    /** Bounded min-heap over parallel primitive arrays; the root is the weakest kept entry. */
+    static final class TopK {
+        private final double[] scores;
+        private final int[] rows;
+        private int size;
+
+        TopK(int capacity) {
+            scores = new double[capacity];
+            rows = new int[capacity];
+        }
+
+        void offer(double score, int row) {
+            if (size < scores.length) {
+                scores[size] = score;
+                rows[size] = row;
+                siftUp(size++);
+            } else if (score > scores[0] || (score == scores[0] && row < rows[0])) {
+                scores[0] = score;
+                rows[0] = row;
+                siftDown(0);
+            }
+        }
+
+        TopK mergeFrom(TopK other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.scores[i], other.rows[i]);
+            }
+            return this;
+        }
+
+        int[] drainBestFirst() {
+            int[] result = new int[size];
+            for (int i = result.length - 1; i >= 0; i--) {
+                result[i] = rows[0];
+                size--;
+                scores[0] = scores[size];
+                rows[0] = rows[size];
+                siftDown(0);
+            }
+            return result;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!less(index, parent)) {
+                    break;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int smallest = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && less(left, smallest)) {
+                    smallest = left;
+                }
+                if (right < size && less(right, smallest)) {
+                    smallest = right;
+                }
+                if (smallest == index) {
+                    return;
+                }
+                swap(index, smallest);
+                index = smallest;
+            }
+        }
+
+        /** Ties on score are broken by row so results are stable across runs. */
+        private boolean less(int a, int b) {
+            return scores[a] < scores[b] || (scores[a] == scores[b] && rows[a] > rows[b]);
+        }
+
+        private void swap(int a, int b) {
+            double score = scores[a];
+            scores[a] = scores[b];
+            scores[b] = score;
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cc.jcguzman.petadoptionapi.reporting;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for a string column. Values are matched case-insensitively and
+ * reported with the spelling first seen; a missing value is a value of its own. Once
+ * {@link #sort} has run, code order is alphabetical order.
+ */
+final class Dictionary {
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+
+    int encode(String value) {
+        Integer code = codes.get(normalize(value));
+        if (code == null) {
+            code = values.size();
+            codes.put(normalize(value), code);
+            values.add(value == null || value.isBlank() ? null : value.trim());
+        }
+        return code;
+    }
+
+    /** Code of the value, or -1 when no row has it. */
+    int code(String value) {
+        return codes.getOrDefault(normalize(value), -1);
+    }
+
+    String value(int code) {
+        return values.get(code);
+    }
+
+    int size() {
+        return values.size();
+    }
+
+    /**
+     * Renumbers the codes alphabetically, missing value first.
+     *
+     * @return new code indexed by old code, for rewriting the column
+     */
+    int[] sort() {
+        Integer[] order = new Integer[values.size()];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> normalize(values.get(a)).compareTo(normalize(values.get(b))));
+
+        int[] remap = new int[order.length];
+        List<String> sorted = new ArrayList<>(order.length);
+        for (int i = 0; i < order.length; i++) {
+            remap[order[i]] = i;
+            sorted.add(values.get(order[i]));
+        }
+        values.clear();
+        values.addAll(sorted);
+        codes.replaceAll((key, code) -> remap[code]);
+        return remap;
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+}
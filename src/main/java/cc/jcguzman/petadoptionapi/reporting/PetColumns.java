@@ -0,0 +1,144 @@
+package cc.jcguzman.petadoptionapi.reporting;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+
+import java.time.Instant;
+import java.util.Arrays;
+
+/**
+ * Immutable column-per-attribute copy of every pet, for ad-hoc reports. Strings are
+ * dictionary encoded into int codes, the status and urgency fit in a byte, and fees are
+ * held in cents so sums are exact. Rows are appended from a streaming query by the
+ * {@link Builder}, so building never holds the pets as objects.
+ */
+public final class PetColumns {
+
+    final int size;
+    final int[] species;
+    final int[] breed;
+    final int[] gender;
+    final int[] color;
+    final byte[] status;
+    final int[] age;
+    final byte[] urgency;
+    final long[] feeCents;
+
+    final Dictionary speciesNames;
+    final Dictionary breedNames;
+    final Dictionary genderNames;
+    final Dictionary colorNames;
+    final int maxAge;
+    final int maxUrgency;
+
+    private final Instant takenAt;
+
+    private PetColumns(Builder builder) {
+        size = builder.size;
+        species = rewrite(builder.species, builder.speciesNames.sort(), size);
+        breed = rewrite(builder.breed, builder.breedNames.sort(), size);
+        gender = rewrite(builder.gender, builder.genderNames.sort(), size);
+        color = rewrite(builder.color, builder.colorNames.sort(), size);
+        status = Arrays.copyOf(builder.status, size);
+        age = Arrays.copyOf(builder.age, size);
+        urgency = Arrays.copyOf(builder.urgency, size);
+        feeCents = Arrays.copyOf(builder.feeCents, size);
+        speciesNames = builder.speciesNames;
+        breedNames = builder.breedNames;
+        genderNames = builder.genderNames;
+        colorNames = builder.colorNames;
+        maxAge = builder.maxAge;
+        maxUrgency = builder.maxUrgency;
+        takenAt = Instant.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Instant getTakenAt() {
+        return takenAt;
+    }
+
+    /** Replaces first-seen codes with alphabetical ones and trims the column to size. */
+    private static int[] rewrite(int[] column, int[] remap, int size) {
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = remap[column[i]];
+        }
+        return result;
+    }
+
+    public static final class Builder {
+        private int size;
+        private int[] species = new int[1024];
+        private int[] breed = new int[1024];
+        private int[] gender = new int[1024];
+        private int[] color = new int[1024];
+        private byte[] status = new byte[1024];
+        private int[] age = new int[1024];
+        private byte[] urgency = new byte[1024];
+        private long[] feeCents = new long[1024];
+
+        private final Dictionary speciesNames = new Dictionary();
+        private final Dictionary breedNames = new Dictionary();
+        private final Dictionary genderNames = new Dictionary();
+        private final Dictionary colorNames = new Dictionary();
+        private int maxAge;
+        private int maxUrgency;
+        private boolean built;
+
+        private Builder() {
+        }
+
+        /**
+         * Appends a row of {@code species, breed, gender, color, currentStatus, age, urgency, adoptionFee}.
+         */
+        public Builder add(Object[] row) {
+            checkNotBuilt();
+            if (size == status.length) {
+                grow();
+            }
+            species[size] = speciesNames.encode((String) row[0]);
+            breed[size] = breedNames.encode((String) row[1]);
+            gender[size] = genderNames.encode((String) row[2]);
+            color[size] = colorNames.encode((String) row[3]);
+            status[size] = (byte) ((Pet.Status) row[4]).ordinal();
+            age[size] = Math.max(0, (Integer) row[5]);
+            urgency[size] = (byte) Math.max(0, Math.min(Byte.MAX_VALUE, (Integer) row[6]));
+            feeCents[size] = Math.round((Double) row[7] * 100);
+            maxAge = Math.max(maxAge, age[size]);
+            maxUrgency = Math.max(maxUrgency, urgency[size]);
+            size++;
+            return this;
+        }
+
+        /** Builds the snapshot; the builder's arrays are handed over, so it cannot be reused. */
+        public PetColumns build() {
+            checkNotBuilt();
+            built = true;
+            return new PetColumns(this);
+        }
+
+        private void checkNotBuilt() {
+            if (built) {
+                throw new IllegalStateException("Builder already used");
+            }
+        }
+
+        private void grow() {
+            int capacity = status.length * 2;
+            species = Arrays.copyOf(species, capacity);
+            breed = Arrays.copyOf(breed, capacity);
+            gender = Arrays.copyOf(gender, capacity);
+            color = Arrays.copyOf(color, capacity);
+            status = Arrays.copyOf(status, capacity);
+            age = Arrays.copyOf(age, capacity);
+            urgency = Arrays.copyOf(urgency, capacity);
+            feeCents = Arrays.copyOf(feeCents, capacity);
+        }
+    }
+}
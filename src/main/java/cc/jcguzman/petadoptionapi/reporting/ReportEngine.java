@@ -0,0 +1,337 @@
+package cc.jcguzman.petadoptionapi.reporting;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.PetReport;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+
+/**
+ * Evaluates a {@link ReportQuery} over {@link PetColumns}. Filters are compiled to
+ * lookups on dictionary codes, and a row's group is a mixed-radix number over the
+ * grouped columns, so aggregation indexes plain arrays instead of hashing keys.
+ *
+ * <p>The rows are cut into chunks that are aggregated in parallel on the common
+ * fork/join pool, each into its own partial arrays. Percentiles need every fee of a
+ * group: a second parallel pass copies fees into one array per group, each chunk writing
+ * at offsets derived from the first pass's per-chunk counts, and the arrays are then
+ * sorted.</p>
+ */
+public final class ReportEngine {
+
+    static final int MAX_GROUPS = 10_000;
+    static final int MAX_PERCENTILES = 10;
+
+    private static final int MIN_CHUNK_SIZE = 16_384;
+    private static final int PARALLEL_SORT_THRESHOLD = 65_536;
+
+    private ReportEngine() {
+    }
+
+    /**
+     * @return the non-empty groups in key order
+     */
+    public static List<PetReport.Group> run(PetColumns columns, ReportQuery query) {
+        Plan plan = new Plan(columns, query);
+        int chunks = chunkCount(columns.size());
+        int chunkSize = chunks == 0 ? 0 : (columns.size() + chunks - 1) / chunks;
+
+        Partial[] partials = new Partial[chunks];
+        forEachChunk(chunks, chunk -> partials[chunk] = plan.aggregate(
+                chunk * chunkSize, Math.min(columns.size(), (chunk + 1) * chunkSize)));
+        Partial total = new Partial(plan.groups);
+        for (Partial partial : partials) {
+            total.add(partial);
+        }
+
+        long[][] fees = null;
+        if (!plan.percentiles.isEmpty()) {
+            fees = new long[plan.groups][];
+            int[][] offsets = new int[chunks][plan.groups];
+            for (int group = 0; group < plan.groups; group++) {
+                fees[group] = new long[Math.toIntExact(total.count[group])];
+                int offset = 0;
+                for (int chunk = 0; chunk < chunks; chunk++) {
+                    offsets[chunk][group] = offset;
+                    offset += (int) partials[chunk].count[group];
+                }
+            }
+            long[][] target = fees;
+            forEachChunk(chunks, chunk -> plan.collectFees(
+                    chunk * chunkSize, Math.min(columns.size(), (chunk + 1) * chunkSize), target, offsets[chunk]));
+            for (long[] groupFees : fees) {
+                if (groupFees.length >= PARALLEL_SORT_THRESHOLD) {
+                    Arrays.parallelSort(groupFees);
+                } else {
+                    Arrays.sort(groupFees);
+                }
+            }
+        }
+
+        List<PetReport.Group> result = new ArrayList<>();
+        for (int group = 0; group < plan.groups; group++) {
+            if (total.count[group] > 0) {
+                result.add(plan.describe(group, total, fees != null ? fees[group] : null));
+            }
+        }
+        return result;
+    }
+
+    private static int chunkCount(int rows) {
+        if (rows == 0) {
+            return 0;
+        }
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        return Math.max(1, Math.min(parallelism * 4, rows / MIN_CHUNK_SIZE));
+    }
+
+    private static void forEachChunk(int chunks, IntConsumer body) {
+        if (chunks > 0) {
+            ForkJoinPool.commonPool().invoke(new ChunkTask(0, chunks, body));
+        }
+    }
+
+    /** Nearest-rank percentile of sorted values. */
+    static long percentile(long[] sorted, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length, rank) - 1)];
+    }
+
+    /** The query compiled against the snapshot's dictionaries. */
+    private static final class Plan {
+        final PetColumns columns;
+        final ReportQuery.Dimension[] dimensions;
+        final int[] radix;
+        final int groups;
+        final int ageBucketSize;
+        final boolean[] speciesAllowed;
+        final boolean[] breedAllowed;
+        final boolean[] statusAllowed;
+        final int minAge;
+        final int maxAge;
+        final long minFee;
+        final long maxFee;
+        final List<Double> percentiles;
+
+        Plan(PetColumns columns, ReportQuery query) {
+            this.columns = columns;
+            List<ReportQuery.Dimension> groupBy = query.getGroupBy() != null ? query.getGroupBy() : List.of();
+            if (groupBy.stream().distinct().count() != groupBy.size()) {
+                throw new IllegalStateException("Each column may only be grouped by once");
+            }
+            if (query.getAgeBucketSize() < 1 || query.getAgeBucketSize() > 100) {
+                throw new IllegalStateException("Age bucket size must be between 1 and 100");
+            }
+            ageBucketSize = query.getAgeBucketSize();
+
+            dimensions = groupBy.toArray(new ReportQuery.Dimension[0]);
+            radix = new int[dimensions.length];
+            long product = 1;
+            for (int i = 0; i < dimensions.length; i++) {
+                radix[i] = Math.max(1, cardinality(dimensions[i]));
+                product *= radix[i];
+                if (product > MAX_GROUPS) {
+                    throw new IllegalStateException("Report would have more than " + MAX_GROUPS +
+                            " groups; group by fewer or coarser columns");
+                }
+            }
+            groups = (int) product;
+
+            speciesAllowed = allowed(query.getSpecies(), columns.speciesNames);
+            breedAllowed = allowed(query.getBreed(), columns.breedNames);
+            if (query.getStatus() != null && !query.getStatus().isEmpty()) {
+                statusAllowed = new boolean[Pet.Status.values().length];
+                query.getStatus().forEach(status -> statusAllowed[status.ordinal()] = true);
+            } else {
+                statusAllowed = null;
+            }
+            minAge = query.getMinAge() != null ? query.getMinAge() : Integer.MIN_VALUE;
+            maxAge = query.getMaxAge() != null ? query.getMaxAge() : Integer.MAX_VALUE;
+            minFee = query.getMinFee() != null ? (long) Math.ceil(query.getMinFee() * 100 - 1e-6) : Long.MIN_VALUE;
+            maxFee = query.getMaxFee() != null ? (long) Math.floor(query.getMaxFee() * 100 + 1e-6) : Long.MAX_VALUE;
+
+            percentiles = query.getPercentiles() != null ? query.getPercentiles() : List.of();
+            if (percentiles.size() > MAX_PERCENTILES) {
+                throw new IllegalStateException("At most " + MAX_PERCENTILES + " percentiles may be requested");
+            }
+            for (double percentile : percentiles) {
+                if (!(percentile > 0 && percentile <= 100)) {
+                    throw new IllegalStateException("Percentiles must be above 0 and at most 100");
+                }
+            }
+        }
+
+        private int cardinality(ReportQuery.Dimension dimension) {
+            return switch (dimension) {
+                case SPECIES -> columns.speciesNames.size();
+                case BREED -> columns.breedNames.size();
+                case GENDER -> columns.genderNames.size();
+                case COLOR -> columns.colorNames.size();
+                case STATUS -> Pet.Status.values().length;
+                case AGE_BUCKET -> columns.maxAge / ageBucketSize + 1;
+                case URGENCY -> columns.maxUrgency + 1;
+            };
+        }
+
+        /** Null allows everything; names no pet has simply match nothing. */
+        private static boolean[] allowed(List<String> names, Dictionary dictionary) {
+            if (names == null || names.isEmpty()) {
+                return null;
+            }
+            boolean[] allowed = new boolean[dictionary.size()];
+            for (String name : names) {
+                int code = dictionary.code(name);
+                if (code >= 0) {
+                    allowed[code] = true;
+                }
+            }
+            return allowed;
+        }
+
+        /** The row's group, or -1 if the filters reject it. */
+        int groupOf(int row) {
+            PetColumns c = columns;
+            if (speciesAllowed != null && !speciesAllowed[c.species[row]]
+                    || breedAllowed != null && !breedAllowed[c.breed[row]]
+                    || statusAllowed != null && !statusAllowed[c.status[row]]
+                    || c.age[row] < minAge || c.age[row] > maxAge
+                    || c.feeCents[row] < minFee || c.feeCents[row] > maxFee) {
+                return -1;
+            }
+            int key = 0;
+            for (int i = 0; i < dimensions.length; i++) {
+                key = key * radix[i] + switch (dimensions[i]) {
+                    case SPECIES -> c.species[row];
+                    case BREED -> c.breed[row];
+                    case GENDER -> c.gender[row];
+                    case COLOR -> c.color[row];
+                    case STATUS -> c.status[row];
+                    case AGE_BUCKET -> c.age[row] / ageBucketSize;
+                    case URGENCY -> c.urgency[row];
+                };
+            }
+            return key;
+        }
+
+        Partial aggregate(int from, int to) {
+            Partial partial = new Partial(groups);
+            long[] fees = columns.feeCents;
+            int[] ages = columns.age;
+            for (int row = from; row < to; row++) {
+                int group = groupOf(row);
+                if (group >= 0) {
+                    long fee = fees[row];
+                    partial.count[group]++;
+                    partial.ageSum[group] += ages[row];
+                    partial.feeSum[group] += fee;
+                    partial.feeMin[group] = Math.min(partial.feeMin[group], fee);
+                    partial.feeMax[group] = Math.max(partial.feeMax[group], fee);
+                }
+            }
+            return partial;
+        }
+
+        void collectFees(int from, int to, long[][] target, int[] offsets) {
+            long[] fees = columns.feeCents;
+            for (int row = from; row < to; row++) {
+                int group = groupOf(row);
+                if (group >= 0) {
+                    target[group][offsets[group]++] = fees[row];
+                }
+            }
+        }
+
+        PetReport.Group describe(int key, Partial total, long[] sortedFees) {
+            PetReport.Group group = new PetReport.Group();
+            int remaining = key;
+            for (int i = dimensions.length - 1; i >= 0; i--) {
+                int value = remaining % radix[i];
+                remaining /= radix[i];
+                switch (dimensions[i]) {
+                    case SPECIES -> group.setSpecies(columns.speciesNames.value(value));
+                    case BREED -> group.setBreed(columns.breedNames.value(value));
+                    case GENDER -> group.setGender(columns.genderNames.value(value));
+                    case COLOR -> group.setColor(columns.colorNames.value(value));
+                    case STATUS -> group.setStatus(Pet.Status.values()[value]);
+                    case AGE_BUCKET -> {
+                        group.setAgeFrom(value * ageBucketSize);
+                        group.setAgeTo(value * ageBucketSize + ageBucketSize - 1);
+                    }
+                    case URGENCY -> group.setUrgency(value);
+                }
+            }
+
+            long count = total.count[key];
+            group.setCount(count);
+            group.setAverageAge((double) total.ageSum[key] / count);
+            group.setFeeTotal(total.feeSum[key] / 100.0);
+            group.setFeeAverage(total.feeSum[key] / 100.0 / count);
+            group.setFeeMin(total.feeMin[key] / 100.0);
+            group.setFeeMax(total.feeMax[key] / 100.0);
+            if (sortedFees != null) {
+                List<PetReport.FeePercentile> values = new ArrayList<>(percentiles.size());
+                for (double percentile : percentiles) {
+                    values.add(new PetReport.FeePercentile(percentile, percentile(sortedFees, percentile) / 100.0));
+                }
+                group.setFeePercentiles(values);
+            }
+            return group;
+        }
+    }
+
+    /** Per-group aggregates of one chunk, or of all chunks once added up. */
+    private static final class Partial {
+        final long[] count;
+        final long[] ageSum;
+        final long[] feeSum;
+        final long[] feeMin;
+        final long[] feeMax;
+
+        Partial(int groups) {
+            count = new long[groups];
+            ageSum = new long[groups];
+            feeSum = new long[groups];
+            feeMin = new long[groups];
+            feeMax = new long[groups];
+            Arrays.fill(feeMin, Long.MAX_VALUE);
+            Arrays.fill(feeMax, Long.MIN_VALUE);
+        }
+
+        void add(Partial other) {
+            for (int group = 0; group < count.length; group++) {
+                count[group] += other.count[group];
+                ageSum[group] += other.ageSum[group];
+                feeSum[group] += other.feeSum[group];
+                feeMin[group] = Math.min(feeMin[group], other.feeMin[group]);
+                feeMax[group] = Math.max(feeMax[group], other.feeMax[group]);
+            }
+        }
+    }
+
+    /** Splits a range of chunk numbers in halves until one chunk is left, then runs it. */
+    private static final class ChunkTask extends RecursiveAction {
+        private final int from;
+        private final int to;
+        private final IntConsumer body;
+
+        ChunkTask(int from, int to, IntConsumer body) {
+            this.from = from;
+            this.to = to;
+            this.body = body;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ChunkTask(from, middle, body), new ChunkTask(middle, to, body));
+            } else {
+                body.accept(from);
+            }
+        }
+    }
+}
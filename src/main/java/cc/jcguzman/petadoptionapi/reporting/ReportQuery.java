@@ -0,0 +1,52 @@
+package cc.jcguzman.petadoptionapi.reporting;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Schema(description = "Ad-hoc pet report: grouping, filters and fee percentiles; every field is optional")
+@Data
+public class ReportQuery {
+
+    @Schema(description = "Columns to group by, in order; no grouping gives a single total", example = "SPECIES,STATUS")
+    private List<Dimension> groupBy;
+
+    @Schema(description = "Width in years of the AGE_BUCKET groups", example = "3")
+    private int ageBucketSize = 3;
+
+    @Schema(description = "Only these species (case-insensitive)", example = "Dog,Cat")
+    private List<String> species;
+
+    @Schema(description = "Only these breeds (case-insensitive)", example = "Labrador")
+    private List<String> breed;
+
+    @Schema(description = "Only pets in these statuses", example = "AVAILABLE,FOSTERED")
+    private List<Pet.Status> status;
+
+    @Schema(description = "Youngest age in years to include", example = "1")
+    private Integer minAge;
+
+    @Schema(description = "Oldest age in years to include", example = "10")
+    private Integer maxAge;
+
+    @Schema(description = "Lowest adoption fee to include", example = "50.0")
+    private Double minFee;
+
+    @Schema(description = "Highest adoption fee to include", example = "300.0")
+    private Double maxFee;
+
+    @Schema(description = "Fee percentiles to compute per group, each above 0 and at most 100", example = "50,90,99")
+    private List<Double> percentiles;
+
+    public enum Dimension {
+        SPECIES,
+        BREED,
+        GENDER,
+        COLOR,
+        STATUS,
+        AGE_BUCKET,
+        URGENCY
+    }
+}
@@ -1,11 +1,18 @@
 package cc.jcguzman.petadoptionapi.repository;
 
 import cc.jcguzman.petadoptionapi.model.Foster;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface FosterRepository extends JpaRepository<Foster, Long> {
@@ -14,5 +21,34 @@ public interface FosterRepository extends JpaRepository<Foster, Long> {
     @Query("SELECT f FROM Foster f WHERE f.active = true AND SIZE(f.petsAssigned) < f.maxPets")
     List<Foster> findAvailableFosters();
 
+    @EntityGraph(attributePaths = "petsAssigned")
+    @Query("SELECT f FROM Foster f WHERE f.active = true AND SIZE(f.petsAssigned) < f.maxPets")
+    List<Foster> findAvailableFostersWithPets();
+
+    @Query("SELECT f.id, f.latitude, f.longitude FROM Foster f " +
+            "WHERE f.active = true AND f.latitude IS NOT NULL AND f.longitude IS NOT NULL")
+    List<Object[]> findActiveLocations();
+
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    @Query("SELECT f.email FROM Foster f WHERE f.email IN :emails")
+    List<String> findExistingEmails(Collection<String> emails);
+
+    /** Rows for CSV export in {@code CsvFormat.FOSTER_COLUMNS} order, streamed from a cursor. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT f.id, f.name, f.lastName, f.phone, f.address, f.email, f.latitude, f.longitude, " +
+            "f.fosterSince, f.active, f.maxPets, f.preferredSpecies FROM Foster f ORDER BY f.id")
+    Stream<Object[]> streamExportRows();
+
+    @EntityGraph(attributePaths = "petsAssigned")
+    List<Foster> findByIdIn(Collection<Long> ids);
+
+    /** Ids and sequences only, so the page limit is applied in SQL rather than after a collection fetch. */
+    @Query("SELECT f.id, f.changeSeq FROM Foster f WHERE f.changeSeq > :since AND f.changeSeq <= :upTo " +
+            "ORDER BY f.changeSeq")
+    List<Object[]> findChangedIds(long since, long upTo, Limit limit);
+
+    /** Count and summed capacity of active fosters. */
+    @Query("SELECT COUNT(f), SUM(f.maxPets) FROM Foster f WHERE f.active = true")
+    List<Object[]> summarizeActiveCapacity();
+}
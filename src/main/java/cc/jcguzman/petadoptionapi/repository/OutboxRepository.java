@@ -0,0 +1,33 @@
+package cc.jcguzman.petadoptionapi.repository;
+
+import cc.jcguzman.petadoptionapi.model.OutboxMessage;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface OutboxRepository extends JpaRepository<OutboxMessage, Long> {
+
+    List<OutboxMessage> findByDestinationAndStatusOrderById(String destination, OutboxMessage.Status status,
+                                                            Limit limit);
+
+    long countByStatus(OutboxMessage.Status status);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxMessage m WHERE m.id IN :ids")
+    int deleteDelivered(Collection<Long> ids);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxMessage m SET m.attempts = m.attempts + 1, m.nextAttemptAt = :nextAttemptAt, " +
+            "m.lastError = :error, m.status = :status WHERE m.id IN :ids")
+    int recordFailedAttempt(Collection<Long> ids, Instant nextAttemptAt, String error, OutboxMessage.Status status);
+}
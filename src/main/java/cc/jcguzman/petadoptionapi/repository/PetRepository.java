@@ -1,10 +1,18 @@
 package cc.jcguzman.petadoptionapi.repository;
 
 import cc.jcguzman.petadoptionapi.model.Pet;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface PetRepository extends JpaRepository<Pet, Long> {
@@ -12,4 +20,40 @@ public interface PetRepository extends JpaRepository<Pet, Long> {
     List<Pet> findBySpecies(String species);
     List<Pet> findByBreed(String breed);
     List<Pet> findByCurrentFosterIsNull();
-}
\ No newline at end of file
+    List<Pet> findByCurrentFosterIsNullAndCurrentStatus(Pet.Status status);
+
+    @Query("SELECT p.id, p.species, p.weight, p.age, p.adoptionFee, p.temperament " +
+            "FROM Pet p WHERE p.currentStatus = :status")
+    List<Object[]> findRecommendationRowsByCurrentStatus(Pet.Status status);
+
+    /** Rows for the reporting snapshot, streamed so millions of pets are never held as entities. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.species, p.breed, p.gender, p.color, p.currentStatus, p.age, p.urgency, p.adoptionFee " +
+            "FROM Pet p")
+    Stream<Object[]> streamReportRows();
+
+    /** Rows for CSV export in {@code CsvFormat.PET_COLUMNS} order, streamed from a cursor. */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT p.id, p.name, p.species, p.breed, p.temperament, p.age, p.gender, p.weight, p.color, " +
+            "p.dateArrived, p.adoptionFee, p.urgency, p.currentStatus, f.id " +
+            "FROM Pet p LEFT JOIN p.currentFoster f ORDER BY p.id")
+    Stream<Object[]> streamExportRows();
+
+    @EntityGraph(attributePaths = "currentFoster")
+    List<Pet> findByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "currentFoster")
+    List<Pet> findByChangeSeqGreaterThanAndChangeSeqLessThanEqualOrderByChangeSeq(long since, long upTo, Limit limit);
+
+    /** Per species and status: pet count and adoption fees summed in cents. */
+    @Query("SELECT p.species, p.currentStatus, COUNT(p), SUM(ROUND(p.adoptionFee * 100, 0)) " +
+            "FROM Pet p GROUP BY p.species, p.currentStatus")
+    List<Object[]> summarizeBySpeciesAndStatus();
+
+    /** Count and summed arrival epoch seconds of pets in the given statuses with a known arrival. */
+    @Query("SELECT COUNT(p), SUM(EXTRACT(EPOCH FROM p.dateArrived)) FROM Pet p " +
+            "WHERE p.currentStatus IN :statuses AND p.dateArrived IS NOT NULL")
+    List<Object[]> summarizeArrivals(Collection<Pet.Status> statuses);
+
+    long countByCurrentFosterIsNotNull();
+}
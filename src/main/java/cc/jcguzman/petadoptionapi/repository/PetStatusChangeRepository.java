@@ -0,0 +1,23 @@
+package cc.jcguzman.petadoptionapi.repository;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.PetStatusChange;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.repository.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Read-only view of the status history; rows are only ever inserted, by cascade from
+ * {@link Pet}, so no save or delete methods are exposed.
+ */
+@org.springframework.stereotype.Repository
+public interface PetStatusChangeRepository extends Repository<PetStatusChange, Long> {
+
+    List<PetStatusChange> findByPet_IdAndChangedAtBetweenOrderByChangedAtAscIdAsc(
+            Long petId, LocalDateTime from, LocalDateTime to, Limit limit);
+
+    List<PetStatusChange> findByToStatusAndChangedAtBetweenOrderByChangedAtAscIdAsc(
+            Pet.Status status, LocalDateTime from, LocalDateTime to, Limit limit);
+}
@@ -10,6 +10,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -32,6 +33,25 @@ public class ApiKeyService {
         return apiKeyRepository.save(apiKey);
     }
 
+    /**
+     * Creates {@code count} keys that share a description, creator and expiry, e.g. for
+     * onboarding a partner.
+     */
+    @Transactional
+    public List<ApiKey> generateKeys(String description, String createdBy, Integer validityDays, int count) {
+        Instant expiresAt = validityDays != null ? Instant.now().plus(validityDays, ChronoUnit.DAYS) : null;
+        List<ApiKey> apiKeys = new ArrayList<>(count);
+        for (String keyValue : ApiKeyGenerator.generatePrefixedKeys("pat", count)) {
+            ApiKey apiKey = new ApiKey();
+            apiKey.setKeyValue(keyValue);
+            apiKey.setDescription(description);
+            apiKey.setCreatedBy(createdBy);
+            apiKey.setExpiresAt(expiresAt);
+            apiKeys.add(apiKey);
+        }
+        return apiKeyRepository.saveAll(apiKeys);
+    }
+
     @Transactional(readOnly = true)
     public boolean validateKey(String keyValue) {
         return apiKeyRepository.findByKeyValueAndActiveTrue(keyValue)
@@ -0,0 +1,252 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.feed.ChangeLog;
+import cc.jcguzman.petadoptionapi.model.ChangeNotification;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent change feed. Committed {@link ChangeEvent}s are serialized once into a
+ * shared {@link ChangeLog}; each subscriber only holds a cursor into it, so the log is
+ * also the bounded per-subscriber buffer. Publishing never blocks on clients: it wakes
+ * each subscriber's drain on the sender pool, and a drain sends at most
+ * {@code MAX_BATCH} events before yielding its thread. Heartbeats go through the same
+ * drain, so a subscriber never has more than one send in flight.
+ *
+ * <p>A write to a client that stops reading blocks until the container's write timeout.
+ * A subscriber whose send takes longer than {@code feed.send-timeout} is evicted: it gets
+ * no more work and its stream is closed once the write returns. The pool grows past
+ * {@code feed.sender-threads} while such writes hold threads, up to
+ * {@code feed.max-sender-threads}; when it is full, a subscriber's drain waits for the
+ * next change or heartbeat, and nothing is lost since its cursor stays put.</p>
+ *
+ * <p>A subscriber that falls more than the log's capacity behind gets a {@code reset}
+ * event and continues from the newest entry; it should reload what it shows over REST.
+ * Reconnecting with {@code Last-Event-ID} replays what it missed while the log still
+ * holds it.</p>
+ */
+@Slf4j
+@Service
+public class ChangeFeedService {
+
+    static final String RESET_EVENT = "reset";
+
+    private static final int MAX_BATCH = 256;
+    private static final Duration WATCHDOG_INTERVAL = Duration.ofSeconds(1);
+
+    private final ObjectMapper objectMapper;
+    private final ChangeLog changeLog;
+    private final int maxSubscribers;
+    private final long timeoutMillis;
+    private final long sendTimeoutNanos;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolExecutor senders;
+    private final ScheduledExecutorService timer =
+            Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "change-feed-timer"));
+
+    public ChangeFeedService(ObjectMapper objectMapper,
+                             @Value("${feed.history-size:4096}") int historySize,
+                             @Value("${feed.max-subscribers:10000}") int maxSubscribers,
+                             @Value("${feed.sender-threads:4}") int senderThreads,
+                             @Value("${feed.max-sender-threads:64}") int maxSenderThreads,
+                             @Value("${feed.timeout:30m}") Duration timeout,
+                             @Value("${feed.send-timeout:10s}") Duration sendTimeout,
+                             @Value("${feed.heartbeat-interval:15s}") Duration heartbeatInterval) {
+        this.objectMapper = objectMapper;
+        this.changeLog = new ChangeLog(historySize);
+        this.maxSubscribers = maxSubscribers;
+        this.timeoutMillis = timeout.toMillis();
+        this.sendTimeoutNanos = sendTimeout.toNanos();
+
+        // Platform threads even in virtual-thread mode: SseEmitter.send holds the emitter's monitor
+        // while writing to the client, which would pin a virtual thread to its carrier
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, Math.max(senderThreads, maxSenderThreads),
+                60, TimeUnit.SECONDS, new SynchronousQueue<>(),
+                runnable -> daemon(runnable, "change-feed-" + threadNumber.incrementAndGet()));
+        timer.scheduleWithFixedDelay(this::requestHeartbeats, heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        timer.scheduleWithFixedDelay(this::evictStuckSubscribers, WATCHDOG_INTERVAL.toMillis(),
+                WATCHDOG_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Opens a stream. Without {@code lastEventId} it starts at the next change; with one
+     * it replays everything after that id, or starts with a reset if those changes are
+     * no longer held.
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        if (subscribers.size() >= maxSubscribers) {
+            throw new IllegalStateException("Change feed is at its limit of " + maxSubscribers + " subscribers");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        long last = changeLog.lastSequence();
+        Subscriber subscriber = new Subscriber(emitter);
+        if (lastEventId == null) {
+            subscriber.cursor = last;
+        } else if (changeLog.canResumeAfter(lastEventId)) {
+            subscriber.cursor = lastEventId;
+        } else {
+            subscriber.cursor = -1;
+        }
+
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        schedule(subscriber);
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(ChangeNotification.of(event));
+        } catch (JsonProcessingException e) {
+            log.warn("Could not serialize change event {}", event, e);
+            return;
+        }
+        changeLog.append(event.type().name(), data);
+        for (Subscriber subscriber : subscribers) {
+            schedule(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            try {
+                senders.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.scheduled.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            int sent = 0;
+            long last = changeLog.lastSequence();
+            while (subscriber.cursor < last && sent < MAX_BATCH && !subscriber.evicted) {
+                long next = subscriber.cursor + 1;
+                ChangeLog.Entry entry = subscriber.cursor < 0 ? null : changeLog.get(next);
+                if (entry == null) {
+                    // Lapped by the log: skip to the newest entry and tell the client to resync
+                    send(subscriber, SseEmitter.event().id(Long.toString(last)).name(RESET_EVENT).data("{}"));
+                    subscriber.cursor = last;
+                } else {
+                    send(subscriber, SseEmitter.event()
+                            .id(Long.toString(entry.sequence())).name(entry.type()).data(entry.data()));
+                    subscriber.cursor = next;
+                }
+                sent++;
+            }
+            // Any event keeps the connection alive just as well
+            if (subscriber.heartbeatDue.getAndSet(false) && sent == 0 && !subscriber.evicted) {
+                send(subscriber, SseEmitter.event().comment("heartbeat"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // The client went away or the emitter already completed
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+            return;
+        } finally {
+            subscriber.scheduled.set(false);
+        }
+
+        if (subscriber.evicted) {
+            subscriber.emitter.complete();
+            return;
+        }
+        // Cleared before this check, so an append racing with the drain is never missed
+        if (subscriber.cursor < changeLog.lastSequence() || subscriber.heartbeatDue.get()) {
+            schedule(subscriber);
+        }
+    }
+
+    private static void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        subscriber.sendStartedAt = System.nanoTime();
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            subscriber.sendStartedAt = 0;
+        }
+    }
+
+    private void requestHeartbeats() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.heartbeatDue.set(true);
+            schedule(subscriber);
+        }
+    }
+
+    private void evictStuckSubscribers() {
+        long now = System.nanoTime();
+        for (Subscriber subscriber : subscribers) {
+            long startedAt = subscriber.sendStartedAt;
+            if (startedAt != 0 && now - startedAt > sendTimeoutNanos) {
+                // The sender still holds the emitter; it completes the stream once the write returns
+                subscriber.evicted = true;
+                subscribers.remove(subscriber);
+                log.info("Evicted a change feed subscriber whose send took over {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos));
+            }
+        }
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        final AtomicBoolean heartbeatDue = new AtomicBoolean();
+        /** Sequence of the last entry sent; -1 until an initial reset has been sent. */
+        volatile long cursor;
+        /** {@link System#nanoTime()} when the send in progress started, or 0. */
+        volatile long sendStartedAt;
+        volatile boolean evicted;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+    }
+}
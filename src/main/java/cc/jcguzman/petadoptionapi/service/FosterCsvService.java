@@ -0,0 +1,182 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.csv.CsvFormat;
+import cc.jcguzman.petadoptionapi.csv.CsvImporter;
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.event.FosterChangedEvent;
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.ImportResult;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.stats.FosterContribution;
+import cc.jcguzman.petadoptionapi.stats.ShelterAggregates;
+import cc.jcguzman.petadoptionapi.sync.ChangeSequence;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * CSV export and import of fosters; see {@link PetCsvService} for how rows are streamed
+ * and batched. Rows whose email is already taken, by a stored foster or an earlier row,
+ * are rejected rather than failing their batch.
+ */
+@Slf4j
+@Service
+public class FosterCsvService {
+
+    private static final String INSERT_FOSTER = "INSERT INTO fosters (name, last_name, phone, address, email, " +
+            "latitude, longitude, foster_since, active, max_pets, preferred_species, change_seq, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final FosterRepository fosterRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final ChangeSequence changeSequence;
+    private final ShelterAggregates shelterAggregates;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    public FosterCsvService(FosterRepository fosterRepository, JdbcTemplate jdbcTemplate,
+                            ChangeSequence changeSequence, ShelterAggregates shelterAggregates,
+                            ApplicationEventPublisher eventPublisher, Validator validator,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${csv.import.batch-size:1000}") int batchSize) {
+        this.fosterRepository = fosterRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.changeSequence = changeSequence;
+        this.shelterAggregates = shelterAggregates;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+
+    public void exportFosters(OutputStream output) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = fosterRepository.streamExportRows();
+                 SequenceWriter writer = CsvFormat.writer(CsvFormat.FOSTER_COLUMNS).writeValues(output)) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    CsvFormat.writeRow(writer, row);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Adds every valid row as a new foster with no pets assigned; an id column is ignored.
+     */
+    public ImportResult importFosters(InputStream input) throws IOException {
+        return new CsvImporter<>(CsvFormat.reader(Foster.class), validator, batchSize, this::writeBatch)
+                .importFrom(input);
+    }
+
+    private void writeBatch(List<CsvImporter.Row<Foster>> rows, ImportResult result) {
+        // Earlier batches are committed by now, so only this batch needs checking against itself
+        Set<String> seenEmails = new HashSet<>();
+        Set<String> taken = new HashSet<>(fosterRepository.findExistingEmails(
+                rows.stream().map(row -> row.value().getEmail()).toList()));
+        List<CsvImporter.Row<Foster>> accepted = new ArrayList<>(rows.size());
+        for (CsvImporter.Row<Foster> row : rows) {
+            String email = row.value().getEmail();
+            if (taken.contains(email) || !seenEmails.add(email)) {
+                result.reject(row.number(), "A foster with email " + email + " already exists");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(accepted));
+            result.addImported(accepted.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not store {} imported fosters", accepted.size(), e);
+            String message = "Not stored: " + e.getMostSpecificCause().getMessage();
+            accepted.forEach(row -> result.reject(row.number(), message));
+        }
+    }
+
+    private void insert(List<CsvImporter.Row<Foster>> rows) {
+        Instant now = Instant.now();
+        List<Foster> fosters = rows.stream().map(CsvImporter.Row::value).toList();
+        for (Foster foster : fosters) {
+            foster.setId(null);
+            foster.setChangeSeq(changeSequence.next());
+            foster.setUpdatedAt(now);
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_FOSTER, new String[]{"id"})) {
+                for (Foster foster : fosters) {
+                    statement.setString(1, foster.getName());
+                    statement.setString(2, foster.getLastName());
+                    statement.setString(3, foster.getPhone());
+                    statement.setString(4, foster.getAddress());
+                    statement.setString(5, foster.getEmail());
+                    setDouble(statement, 6, foster.getLatitude());
+                    setDouble(statement, 7, foster.getLongitude());
+                    statement.setObject(8, foster.getFosterSince().atOffset(ZoneOffset.UTC));
+                    statement.setBoolean(9, foster.isActive());
+                    statement.setInt(10, foster.getMaxPets());
+                    statement.setString(11, foster.getPreferredSpecies());
+                    statement.setLong(12, foster.getChangeSeq());
+                    statement.setObject(13, foster.getUpdatedAt().atOffset(ZoneOffset.UTC));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Foster foster : fosters) {
+                        keys.next();
+                        foster.setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+
+        for (Foster foster : fosters) {
+            shelterAggregates.recordFosterChange(null, FosterContribution.of(foster));
+            eventPublisher.publishEvent(ChangeEvent.fosterCreated(foster.getId()));
+            eventPublisher.publishEvent(new FosterChangedEvent(foster.getId()));
+        }
+    }
+
+    private static void setDouble(PreparedStatement statement, int index, Double value) throws SQLException {
+        if (value != null) {
+            statement.setDouble(index, value);
+        } else {
+            statement.setNull(index, Types.DOUBLE);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.matching.FosterMatcher;
+import cc.jcguzman.petadoptionapi.matching.FosterProfile;
+import cc.jcguzman.petadoptionapi.matching.MatchScorer;
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.FosterAssignment;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class FosterMatchingService {
+
+    private final PetRepository petRepository;
+    private final FosterRepository fosterRepository;
+    private final List<MatchScorer> scorers;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Computes the best placement of every unfostered AVAILABLE pet with an active
+     * foster that has free slots, without changing anything.
+     */
+    @Transactional(readOnly = true)
+    public List<FosterAssignment> previewMatches() {
+        return plan().assignments();
+    }
+
+    /**
+     * Computes the placement and applies it in this transaction; the writes are
+     * flushed as JDBC batches.
+     */
+    public List<FosterAssignment> applyMatches() {
+        Plan plan = plan();
+        for (int i = 0; i < plan.pets().size(); i++) {
+            Pet pet = plan.pets().get(i);
+            Foster foster = plan.fosters().get(i);
+            foster.assignPet(pet);
+            eventPublisher.publishEvent(ChangeEvent.petAssigned(pet.getId(), foster.getId()));
+        }
+        // A foster appears once per pet it receives; the session holds one instance per row
+        Set<Foster> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        changed.addAll(plan.fosters());
+        fosterRepository.saveAll(changed);
+        return plan.assignments();
+    }
+
+    private Plan plan() {
+        List<Pet> pets = petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE);
+        List<Foster> fosters = fosterRepository.findAvailableFostersWithPets();
+
+        Map<FosterProfile, List<Foster>> groups = new LinkedHashMap<>();
+        for (Foster foster : fosters) {
+            groups.computeIfAbsent(FosterProfile.of(foster), profile -> new ArrayList<>()).add(foster);
+        }
+        List<FosterProfile> profiles = new ArrayList<>(groups.keySet());
+
+        int[] capacity = new int[profiles.size()];
+        for (int group = 0; group < profiles.size(); group++) {
+            for (Foster foster : groups.get(profiles.get(group))) {
+                capacity[group] += foster.getMaxPets() - foster.getCurrentPetCount();
+            }
+        }
+
+        double[][] scores = new double[pets.size()][profiles.size()];
+        for (int pet = 0; pet < pets.size(); pet++) {
+            for (int group = 0; group < profiles.size(); group++) {
+                double score = 0.0;
+                for (MatchScorer scorer : scorers) {
+                    score += scorer.score(pets.get(pet), profiles.get(group));
+                }
+                scores[pet][group] = score;
+            }
+        }
+
+        int[] groupOfPet = FosterMatcher.match(scores, capacity);
+
+        // Fosters within a group are interchangeable, so spread the group's pets round-robin
+        List<List<Foster>> slots = new ArrayList<>();
+        for (FosterProfile profile : profiles) {
+            List<Foster> groupSlots = new ArrayList<>();
+            List<Foster> members = groups.get(profile);
+            int maxFree = members.stream().mapToInt(f -> f.getMaxPets() - f.getCurrentPetCount()).max().orElse(0);
+            for (int round = 0; round < maxFree; round++) {
+                for (Foster foster : members) {
+                    if (foster.getMaxPets() - foster.getCurrentPetCount() > round) {
+                        groupSlots.add(foster);
+                    }
+                }
+            }
+            slots.add(groupSlots);
+        }
+
+        int[] used = new int[profiles.size()];
+        List<Pet> matchedPets = new ArrayList<>();
+        List<Foster> matchedFosters = new ArrayList<>();
+        List<FosterAssignment> assignments = new ArrayList<>();
+        for (int pet = 0; pet < pets.size(); pet++) {
+            int group = groupOfPet[pet];
+            if (group == FosterMatcher.UNASSIGNED) {
+                continue;
+            }
+            Foster foster = slots.get(group).get(used[group]++);
+            matchedPets.add(pets.get(pet));
+            matchedFosters.add(foster);
+            assignments.add(new FosterAssignment(FosterAssignment.Type.ASSIGN,
+                    pets.get(pet).getId(), foster.getId(), null));
+        }
+        return new Plan(matchedPets, matchedFosters, assignments);
+    }
+
+    private record Plan(List<Pet> pets, List<Foster> fosters, List<FosterAssignment> assignments) {
+    }
+}
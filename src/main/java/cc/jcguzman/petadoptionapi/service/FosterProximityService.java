@@ -0,0 +1,96 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.FosterChangedEvent;
+import cc.jcguzman.petadoptionapi.geo.GeoGrid;
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.util.RefreshableSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Proximity search over an in-memory grid of active foster locations. After fosters change
+ * the grid is rebuilt on a background thread, at most once per
+ * {@code proximity.refresh-interval}; searches keep using the previous grid meanwhile, and
+ * every candidate is re-checked against the database anyway.
+ */
+@Service
+public class FosterProximityService {
+
+    static final double MAX_RADIUS_KM = 500.0;
+    static final int MAX_LIMIT = 100;
+
+    /** Candidates are verified against the database in pages of this size. */
+    private static final int PAGE_SIZE = 50;
+
+    private final FosterService fosterService;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "proximity-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final RefreshableSnapshot<GeoGrid> grid;
+
+    public FosterProximityService(FosterRepository fosterRepository, FosterService fosterService,
+                                  @Value("${proximity.refresh-interval:2s}") Duration refreshInterval) {
+        this.fosterService = fosterService;
+        this.grid = new RefreshableSnapshot<>(() -> GeoGrid.of(fosterRepository.findActiveLocations()),
+                refreshInterval, refresher);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Finds active fosters within {@code radiusKm}, nearest first. Candidates come from the
+     * in-memory grid; only the nearest ones are loaded, and with {@code availableOnly}
+     * those that cannot take another pet are skipped.
+     */
+    public List<Foster> findNearby(double latitude, double longitude, double radiusKm,
+                                   boolean availableOnly, int limit) {
+        if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+            throw new IllegalStateException("Coordinates out of range");
+        }
+        if (radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            throw new IllegalStateException("Radius must be greater than 0 and at most " + MAX_RADIUS_KM + " km");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalStateException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+
+        List<GeoGrid.Hit> hits = grid.get().within(latitude, longitude, radiusKm);
+        List<Foster> result = new ArrayList<>(limit);
+        for (int from = 0; from < hits.size() && result.size() < limit; from += PAGE_SIZE) {
+            List<GeoGrid.Hit> page = hits.subList(from, Math.min(hits.size(), from + PAGE_SIZE));
+            Map<Long, Foster> fosters = fosterService.getFostersByIds(page.stream().map(GeoGrid.Hit::id).toList());
+            for (GeoGrid.Hit hit : page) {
+                Foster foster = fosters.get(hit.id());
+                if (foster == null || !foster.isActive() || (availableOnly && !foster.canAcceptMorePets())) {
+                    continue;
+                }
+                foster.setDistanceKm(Math.round(hit.distanceKm() * 100) / 100.0);
+                result.add(foster);
+                if (result.size() == limit) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFosterChanged(FosterChangedEvent event) {
+        grid.markStale();
+    }
+}
@@ -1,37 +1,86 @@
 package cc.jcguzman.petadoptionapi.service;
 
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
 import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.FosterAssignment;
 import cc.jcguzman.petadoptionapi.model.Pet;
 import cc.jcguzman.petadoptionapi.repository.FosterRepository;
 import cc.jcguzman.petadoptionapi.repository.PetRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class FosterService {
 
+    static final int MAX_BATCH_SIZE = 200;
+
     private final FosterRepository fosterRepository;
     private final PetRepository petRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public List<Foster> getAllFosters() {
         return fosterRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Foster getFosterById(Long id) {
         return fosterRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Foster not found with id: " + id));
     }
 
+    /**
+     * Loads fosters and their assigned pets with a single IN query. The returned map
+     * iterates in request order and has no entry for ids that do not exist.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Foster> getFostersByIds(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalStateException("At most " + MAX_BATCH_SIZE + " ids can be requested at once");
+        }
+
+        Map<Long, Foster> byId = new LinkedHashMap<>();
+        for (Foster foster : fosterRepository.findByIdIn(new LinkedHashSet<>(ids))) {
+            byId.put(foster.getId(), foster);
+        }
+
+        Map<Long, Foster> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Foster foster = byId.get(id);
+            if (foster != null) {
+                ordered.put(id, foster);
+            }
+        }
+        return ordered;
+    }
+
+    @Transactional(readOnly = true)
     public List<Foster> getActiveFosters() {
         return fosterRepository.findByActiveTrue();
     }
 
+    @Transactional(readOnly = true)
     public List<Foster> getAvailableFosters() {
         return fosterRepository.findAvailableFosters();
     }
@@ -40,7 +89,9 @@ public class FosterService {
         if (fosterRepository.existsByEmail(foster.getEmail())) {
             throw new IllegalStateException("Email already registered");
         }
-        return fosterRepository.save(foster);
+        Foster saved = fosterRepository.save(foster);
+        eventPublisher.publishEvent(ChangeEvent.fosterCreated(saved.getId()));
+        return saved;
     }
 
     public Foster updateFoster(Long id, Foster fosterDetails) {
@@ -53,14 +104,20 @@ public class FosterService {
         foster.setEmail(fosterDetails.getEmail());
         foster.setActive(fosterDetails.isActive());
         foster.setMaxPets(fosterDetails.getMaxPets());
+        foster.setPreferredSpecies(fosterDetails.getPreferredSpecies());
+        foster.setLatitude(fosterDetails.getLatitude());
+        foster.setLongitude(fosterDetails.getLongitude());
 
-        return fosterRepository.save(foster);
+        Foster saved = fosterRepository.save(foster);
+        eventPublisher.publishEvent(ChangeEvent.fosterUpdated(id));
+        return saved;
     }
 
     public void deactivateFoster(Long id) {
         Foster foster = getFosterById(id);
         foster.setActive(false);
         fosterRepository.save(foster);
+        eventPublisher.publishEvent(ChangeEvent.fosterDeactivated(id));
     }
 
     public Foster assignPetToFoster(Long fosterId, Long petId) {
@@ -77,7 +134,9 @@ public class FosterService {
         }
 
         foster.assignPet(pet);
-        return fosterRepository.save(foster);
+        Foster saved = fosterRepository.save(foster);
+        eventPublisher.publishEvent(ChangeEvent.petAssigned(petId, fosterId));
+        return saved;
     }
 
     public Foster unassignPetFromFoster(Long fosterId, Long petId) {
@@ -91,6 +150,240 @@ public class FosterService {
 
         foster.unassignPet(pet);
         petRepository.save(pet);
+        eventPublisher.publishEvent(ChangeEvent.petUnassigned(petId, fosterId, pet.getCurrentStatus()));
         return fosterRepository.save(foster);
     }
-}
\ No newline at end of file
+
+    /**
+     * Applies a list of assign, unassign and move operations atomically. All pets and
+     * fosters are loaded up front, the operations are replayed against those counts,
+     * and capacity is checked on the final state so a batch may swap pets between
+     * full fosters. Nothing is written if any operation is invalid.
+     *
+     * @return the fosters whose assignments changed, ordered by id
+     */
+    public List<Foster> applyAssignments(List<FosterAssignment> assignments) {
+        if (assignments.size() > MAX_BATCH_SIZE) {
+            throw new IllegalStateException("At most " + MAX_BATCH_SIZE + " assignments can be applied at once");
+        }
+
+        Set<Long> petIds = new LinkedHashSet<>();
+        Set<Long> fosterIds = new LinkedHashSet<>();
+        for (FosterAssignment assignment : assignments) {
+            petIds.add(assignment.getPetId());
+            fosterIds.add(assignment.getFosterId());
+            if (assignment.getType() == FosterAssignment.Type.MOVE) {
+                if (assignment.getTargetFosterId() == null) {
+                    throw new IllegalStateException("Move of pet " + assignment.getPetId() + " has no target foster");
+                }
+                fosterIds.add(assignment.getTargetFosterId());
+            }
+        }
+
+        Map<Long, Pet> pets = new HashMap<>();
+        for (Pet pet : petRepository.findByIdIn(petIds)) {
+            pets.put(pet.getId(), pet);
+            if (pet.getCurrentFoster() != null) {
+                fosterIds.add(pet.getCurrentFoster().getId());
+            }
+        }
+        Map<Long, Foster> fosters = new HashMap<>();
+        for (Foster foster : fosterRepository.findByIdIn(fosterIds)) {
+            fosters.put(foster.getId(), foster);
+        }
+
+        // Replay the batch against the loaded state without touching the entities
+        Map<Long, Long> placement = new HashMap<>();
+        Map<Long, Integer> petCounts = new HashMap<>();
+        Set<Long> receivingFosterIds = new LinkedHashSet<>();
+        for (Foster foster : fosters.values()) {
+            petCounts.put(foster.getId(), foster.getCurrentPetCount());
+        }
+        for (Pet pet : pets.values()) {
+            placement.put(pet.getId(), pet.getFosterId());
+        }
+
+        for (FosterAssignment assignment : assignments) {
+            Long petId = assignment.getPetId();
+            if (!pets.containsKey(petId)) {
+                throw new EntityNotFoundException("Pet not found with id: " + petId);
+            }
+            Foster foster = requireLoaded(fosters, assignment.getFosterId());
+            Long current = placement.get(petId);
+
+            Long target = switch (assignment.getType()) {
+                case ASSIGN -> foster.getId();
+                case UNASSIGN, MOVE -> {
+                    if (!foster.getId().equals(current)) {
+                        throw new IllegalStateException("Pet " + petId + " is not assigned to foster " + foster.getId());
+                    }
+                    yield assignment.getType() == FosterAssignment.Type.MOVE
+                            ? requireLoaded(fosters, assignment.getTargetFosterId()).getId()
+                            : null;
+                }
+            };
+
+            if (target != null && !fosters.get(target).isActive()) {
+                throw new IllegalStateException("Foster " + target + " is not active");
+            }
+            if (current != null) {
+                petCounts.merge(current, -1, Integer::sum);
+            }
+            if (target != null) {
+                petCounts.merge(target, 1, Integer::sum);
+                receivingFosterIds.add(target);
+            }
+            placement.put(petId, target);
+        }
+
+        for (Long fosterId : receivingFosterIds) {
+            Foster foster = fosters.get(fosterId);
+            if (petCounts.get(fosterId) > foster.getMaxPets()) {
+                throw new IllegalStateException("Foster " + foster.getId() + " would exceed maximum pet capacity of "
+                        + foster.getMaxPets());
+            }
+        }
+
+        // Detach every moved pet first so each foster only ever holds its final load
+        Set<Long> changedFosterIds = new TreeSet<>();
+        for (Map.Entry<Long, Long> entry : placement.entrySet()) {
+            Pet pet = pets.get(entry.getKey());
+            Long original = pet.getFosterId();
+            if (original != null && !original.equals(entry.getValue())) {
+                changedFosterIds.add(original);
+                if (entry.getValue() == null) {
+                    fosters.get(original).unassignPet(pet);
+                    eventPublisher.publishEvent(ChangeEvent.petUnassigned(pet.getId(), original, pet.getCurrentStatus()));
+                } else {
+                    // Moving on to another foster: one FOSTERED stay follows the other
+                    fosters.get(original).detachPet(pet);
+                }
+            }
+        }
+        for (Map.Entry<Long, Long> entry : placement.entrySet()) {
+            Pet pet = pets.get(entry.getKey());
+            if (entry.getValue() != null && !Objects.equals(pet.getFosterId(), entry.getValue())) {
+                fosters.get(entry.getValue()).assignPet(pet);
+                changedFosterIds.add(entry.getValue());
+                eventPublisher.publishEvent(ChangeEvent.petAssigned(pet.getId(), entry.getValue()));
+            }
+        }
+
+        List<Foster> changed = changedFosterIds.stream().map(fosters::get).toList();
+        return fosterRepository.saveAll(changed);
+    }
+
+    /**
+     * Places waiting pets, in the order given, with active fosters that have free slots.
+     * A foster that prefers the pet's species wins, then the one with most free slots;
+     * {@code excludedFosters} maps a pet to the fosters it must not go back to. Pets that no
+     * longer need a foster are dropped from the result.
+     */
+    public WaitlistPlacement placeWaitingPets(List<Long> petIds, Map<Long, Set<Long>> excludedFosters) {
+        OpenFosters fosters = new OpenFosters(fosterRepository.findAvailableFostersWithPets());
+        Map<Long, Pet> pets = new HashMap<>();
+        for (Pet pet : petRepository.findByIdIn(petIds)) {
+            pets.put(pet.getId(), pet);
+        }
+
+        List<Long> placed = new ArrayList<>();
+        List<Long> waiting = new ArrayList<>();
+        Set<Foster> changed = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Long petId : petIds) {
+            Pet pet = pets.get(petId);
+            if (pet == null || pet.getCurrentFoster() != null || pet.getCurrentStatus() != Pet.Status.AVAILABLE) {
+                continue;
+            }
+            Foster best = fosters.best(pet.getSpecies(), excludedFosters.getOrDefault(petId, Set.of()));
+            if (best == null) {
+                waiting.add(petId);
+            } else {
+                fosters.assign(best, pet);
+                changed.add(best);
+                eventPublisher.publishEvent(ChangeEvent.petAssigned(petId, best.getId()));
+                placed.add(petId);
+            }
+        }
+        fosterRepository.saveAll(changed);
+        return new WaitlistPlacement(placed, waiting);
+    }
+
+    public record WaitlistPlacement(List<Long> placed, List<Long> stillWaiting) {
+    }
+
+    /**
+     * Fosters with free slots, most free slots first and then in load order, both overall
+     * and per preferred species, so each waiting pet finds its foster without a scan. A
+     * foster is taken out while it is assigned a pet, since its slot count orders it.
+     */
+    private static final class OpenFosters {
+
+        private final Map<Foster, Integer> loadOrder = new IdentityHashMap<>();
+        private final Comparator<Foster> mostFreeSlots = Comparator
+                .comparingInt((Foster foster) -> foster.getCurrentPetCount() - foster.getMaxPets())
+                .thenComparing(loadOrder::get);
+        private final NavigableSet<Foster> all = new TreeSet<>(mostFreeSlots);
+        private final Map<String, NavigableSet<Foster>> bySpecies = new HashMap<>();
+
+        OpenFosters(List<Foster> fosters) {
+            for (Foster foster : fosters) {
+                loadOrder.put(foster, loadOrder.size());
+                if (foster.canAcceptMorePets()) {
+                    add(foster);
+                }
+            }
+        }
+
+        /** A foster preferring the species if one is open, otherwise any; null when none is left. */
+        Foster best(String species, Set<Long> excluded) {
+            Foster preferred = first(bySpecies.get(speciesKey(species)), excluded);
+            return preferred != null ? preferred : first(all, excluded);
+        }
+
+        void assign(Foster foster, Pet pet) {
+            remove(foster);
+            foster.assignPet(pet);
+            if (foster.canAcceptMorePets()) {
+                add(foster);
+            }
+        }
+
+        private void add(Foster foster) {
+            all.add(foster);
+            if (foster.getPreferredSpecies() != null) {
+                bySpecies.computeIfAbsent(speciesKey(foster.getPreferredSpecies()), key -> new TreeSet<>(mostFreeSlots))
+                        .add(foster);
+            }
+        }
+
+        private void remove(Foster foster) {
+            all.remove(foster);
+            if (foster.getPreferredSpecies() != null) {
+                bySpecies.get(speciesKey(foster.getPreferredSpecies())).remove(foster);
+            }
+        }
+
+        private static Foster first(NavigableSet<Foster> fosters, Set<Long> excluded) {
+            if (fosters != null) {
+                for (Foster foster : fosters) {
+                    if (!excluded.contains(foster.getId())) {
+                        return foster;
+                    }
+                }
+            }
+            return null;
+        }
+
+        private static String speciesKey(String species) {
+            return species == null ? null : species.toLowerCase(Locale.ROOT);
+        }
+    }
+
+    private Foster requireLoaded(Map<Long, Foster> fosters, Long fosterId) {
+        Foster foster = fosters.get(fosterId);
+        if (foster == null) {
+            throw new EntityNotFoundException("Foster not found with id: " + fosterId);
+        }
+        return foster;
+    }
+}
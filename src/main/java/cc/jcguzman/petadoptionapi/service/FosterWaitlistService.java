@@ -0,0 +1,200 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.event.FosterChangedEvent;
+import cc.jcguzman.petadoptionapi.event.PetChangedEvent;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps pets needing a foster in an in-memory priority queue (most urgent, then longest
+ * waiting first) and places them as soon as capacity frees up. Pet and foster writes
+ * schedule a fill on a single background thread; bursts of writes coalesce into one
+ * fill, which places the queue in batches. Off unless {@code waitlist.auto-assign.enabled}
+ * is set, since it assigns pets without anyone asking.
+ */
+@Slf4j
+@Service
+public class FosterWaitlistService {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final Comparator<Entry> PRIORITY = Comparator
+            .comparingInt(Entry::urgency).reversed()
+            .thenComparing(Entry::dateArrived, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(Entry::petId);
+
+    private final PetRepository petRepository;
+    private final FosterService fosterService;
+    private final boolean enabled;
+
+    private final PriorityBlockingQueue<Entry> queue = new PriorityBlockingQueue<>(64, PRIORITY);
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Set<Long> pendingChecks = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Set<Long>> excludedFosters = new ConcurrentHashMap<>();
+    private final AtomicBoolean fillScheduled = new AtomicBoolean();
+    private volatile boolean ready;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "foster-waitlist");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public FosterWaitlistService(PetRepository petRepository, FosterService fosterService,
+                                 @Value("${waitlist.auto-assign.enabled:false}") boolean enabled) {
+        this.petRepository = petRepository;
+        this.fosterService = fosterService;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Pet ids currently waiting, in the order they will be placed.
+     */
+    public List<Long> getWaitingPetIds(int limit) {
+        Entry[] entries = queue.toArray(new Entry[0]);
+        Arrays.sort(entries, PRIORITY);
+        return Arrays.stream(entries)
+                .map(Entry::petId)
+                .filter(queued::contains)
+                .distinct()
+                .limit(limit)
+                .toList();
+    }
+
+    /**
+     * Starts placing pets once the application is up, so seeding at startup does not
+     * race with the assigner.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadWaitlist() {
+        ready = true;
+        petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE).forEach(this::enqueue);
+        scheduleFill();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        pendingChecks.add(event.petId());
+        scheduleFill();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFosterChanged(FosterChangedEvent event) {
+        scheduleFill();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetUnassigned(ChangeEvent event) {
+        if (event.type() == ChangeEvent.Type.PET_UNASSIGNED) {
+            excludedFosters.computeIfAbsent(event.petId(), petId -> ConcurrentHashMap.newKeySet())
+                    .add(event.fosterId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void scheduleFill() {
+        if (enabled && ready && fillScheduled.compareAndSet(false, true)) {
+            executor.execute(this::fill);
+        }
+    }
+
+    private void fill() {
+        // Cleared first, so writes made while this fill runs schedule another one
+        fillScheduled.set(false);
+        try {
+            checkPendingPets();
+            while (!queue.isEmpty()) {
+                List<Long> batch = new ArrayList<>(BATCH_SIZE);
+                Map<Long, Entry> entries = new HashMap<>();
+                while (batch.size() < BATCH_SIZE) {
+                    Entry entry = queue.poll();
+                    if (entry == null) {
+                        break;
+                    }
+                    if (queued.remove(entry.petId())) {
+                        batch.add(entry.petId());
+                        entries.put(entry.petId(), entry);
+                    }
+                }
+                if (batch.isEmpty()) {
+                    break;
+                }
+
+                FosterService.WaitlistPlacement placement;
+                try {
+                    placement = fosterService.placeWaitingPets(batch, excludedFosters);
+                } catch (RuntimeException e) {
+                    // Nothing was placed; the next write retries the whole batch
+                    entries.values().forEach(this::requeue);
+                    throw e;
+                }
+                placement.placed().forEach(excludedFosters::remove);
+                placement.stillWaiting().forEach(petId -> requeue(entries.get(petId)));
+                if (!placement.stillWaiting().isEmpty()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Foster waitlist fill failed", e);
+        }
+    }
+
+    private void checkPendingPets() {
+        Set<Long> ids = new HashSet<>(pendingChecks);
+        pendingChecks.removeAll(ids);
+        if (ids.isEmpty()) {
+            return;
+        }
+        for (Pet pet : petRepository.findByIdIn(ids)) {
+            if (pet.getCurrentFoster() == null && pet.getCurrentStatus() == Pet.Status.AVAILABLE) {
+                // Re-added even when already queued, in case urgency changed; the queued set dedupes
+                queued.add(pet.getId());
+                queue.add(new Entry(pet.getId(), pet.getUrgency(), pet.getDateArrived()));
+            } else {
+                queued.remove(pet.getId());
+                excludedFosters.remove(pet.getId());
+            }
+        }
+    }
+
+    private void enqueue(Pet pet) {
+        if (queued.add(pet.getId())) {
+            queue.add(new Entry(pet.getId(), pet.getUrgency(), pet.getDateArrived()));
+        }
+    }
+
+    private void requeue(Entry entry) {
+        if (queued.add(entry.petId())) {
+            queue.add(entry);
+        }
+    }
+
+    private record Entry(Long petId, int urgency, LocalDateTime dateArrived) {
+    }
+}
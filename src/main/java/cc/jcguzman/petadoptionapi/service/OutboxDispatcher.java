@@ -0,0 +1,206 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.config.OutboxProperties;
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.model.OutboxMessage;
+import cc.jcguzman.petadoptionapi.repository.OutboxRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Drains the outbox to its destinations in the background, so no request ever waits on
+ * a downstream call.
+ *
+ * <p>Each destination is drained by at most one worker at a time, oldest message first,
+ * in batches POSTed as a single JSON array; up to {@code outbox.concurrency} destinations
+ * are drained in parallel. A failed batch is retried with exponential backoff and
+ * nothing behind it is sent meanwhile, which keeps each destination's messages in order.
+ * After {@code outbox.max-attempts} the batch is parked as FAILED. Delivery is
+ * at-least-once; receivers should deduplicate on {@code MessageId}.</p>
+ *
+ * <p>Claiming relies on the in-process worker flags, so only one instance of the
+ * application may dispatch from a given database.</p>
+ */
+@Slf4j
+@Service
+public class OutboxDispatcher {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxProperties properties;
+    private final HttpClient httpClient;
+
+    private final Map<String, AtomicBoolean> draining = new ConcurrentHashMap<>();
+    private final AtomicBoolean wakeScheduled = new AtomicBoolean();
+    private final ExecutorService workers;
+    private final ScheduledExecutorService poller =
+            Executors.newSingleThreadScheduledExecutor(runnable -> daemon(runnable, "outbox-poller"));
+
+    public OutboxDispatcher(OutboxRepository outboxRepository, OutboxProperties properties) {
+        this.outboxRepository = outboxRepository;
+        this.properties = properties;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getRequestTimeout())
+                .build();
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(properties.getConcurrency(),
+                runnable -> daemon(runnable, "outbox-" + threadNumber.incrementAndGet()));
+        for (String destination : properties.getDestinations().keySet()) {
+            draining.put(destination, new AtomicBoolean());
+        }
+
+        if (!properties.getDestinations().isEmpty()) {
+            long interval = properties.getPollInterval().toMillis();
+            poller.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Starts a drain as soon as a change commits instead of waiting for the next poll.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onChange(ChangeEvent event) {
+        if (!properties.getDestinations().isEmpty() && wakeScheduled.compareAndSet(false, true)) {
+            try {
+                poller.execute(() -> {
+                    wakeScheduled.set(false);
+                    poll();
+                });
+            } catch (RejectedExecutionException e) {
+                wakeScheduled.set(false);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        poller.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    private void poll() {
+        for (Map.Entry<String, AtomicBoolean> entry : draining.entrySet()) {
+            AtomicBoolean busy = entry.getValue();
+            if (busy.compareAndSet(false, true)) {
+                try {
+                    workers.execute(() -> {
+                        try {
+                            drain(entry.getKey());
+                        } catch (RuntimeException e) {
+                            log.warn("Outbox drain for {} failed", entry.getKey(), e);
+                        } finally {
+                            busy.set(false);
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    busy.set(false);
+                }
+            }
+        }
+    }
+
+    private void drain(String destination) {
+        OutboxProperties.Destination target = properties.getDestinations().get(destination);
+        while (!Thread.currentThread().isInterrupted()) {
+            List<OutboxMessage> batch = outboxRepository.findByDestinationAndStatusOrderById(
+                    destination, OutboxMessage.Status.PENDING, Limit.of(properties.getBatchSize()));
+            if (batch.isEmpty() || batch.get(0).getNextAttemptAt().isAfter(Instant.now())) {
+                // Nothing to send, or the oldest message is backing off and must go first
+                return;
+            }
+
+            List<Long> ids = batch.stream().map(OutboxMessage::getId).toList();
+            String error = deliver(destination, target, batch);
+            if (error == null) {
+                outboxRepository.deleteDelivered(ids);
+                continue;
+            }
+
+            int attempts = batch.get(0).getAttempts() + 1;
+            if (attempts >= properties.getMaxAttempts()) {
+                log.error("Parking {} outbox messages for {} after {} attempts: {}", ids.size(), destination,
+                        attempts, error);
+                outboxRepository.recordFailedAttempt(ids, Instant.now(), error, OutboxMessage.Status.FAILED);
+            } else {
+                log.warn("Delivery of {} outbox messages to {} failed (attempt {}): {}", ids.size(), destination,
+                        attempts, error);
+                outboxRepository.recordFailedAttempt(ids, Instant.now().plus(backoff(attempts)), error,
+                        OutboxMessage.Status.PENDING);
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return null on success, otherwise a description of the failure
+     */
+    private String deliver(String destination, OutboxProperties.Destination target, List<OutboxMessage> batch) {
+        StringBuilder body = new StringBuilder(batch.size() * 160).append('[');
+        for (int i = 0; i < batch.size(); i++) {
+            OutboxMessage message = batch.get(i);
+            if (i > 0) {
+                body.append(',');
+            }
+            body.append("{\"MessageId\":").append(message.getId())
+                    .append(",\"Event\":").append(message.getPayload())
+                    .append('}');
+        }
+        body.append(']');
+
+        HttpRequest request = HttpRequest.newBuilder(target.getUrl())
+                .timeout(properties.getRequestTimeout())
+                .header("Content-Type", "application/json")
+                .header("X-Outbox-Destination", destination)
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                .build();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            int status = response.statusCode();
+            return status >= 200 && status < 300 ? null : "HTTP " + status;
+        } catch (IOException e) {
+            return truncate(e.toString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "Interrupted";
+        }
+    }
+
+    private Duration backoff(int attempts) {
+        Duration initial = properties.getInitialBackoff();
+        Duration max = properties.getMaxBackoff();
+        // Double per attempt, capped before the shift can overflow
+        int doublings = Math.min(attempts - 1, 20);
+        Duration delay = initial.multipliedBy(1L << doublings);
+        return delay.compareTo(max) > 0 || delay.isNegative() ? max : delay;
+    }
+
+    private static String truncate(String error) {
+        return error.length() <= 500 ? error : error.substring(0, 500);
+    }
+
+    private static Thread daemon(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,56 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.config.OutboxProperties;
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.model.ChangeNotification;
+import cc.jcguzman.petadoptionapi.model.OutboxMessage;
+import cc.jcguzman.petadoptionapi.repository.OutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes one outbox row per interested destination for every {@link ChangeEvent}. This
+ * is a plain synchronous listener, so it runs inside the transaction that published the
+ * event: the rows commit or roll back with the change itself.
+ */
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+    private final OutboxRepository outboxRepository;
+    private final OutboxProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @EventListener
+    public void onChange(ChangeEvent event) {
+        List<OutboxMessage> messages = new ArrayList<>();
+        String payload = null;
+        for (Map.Entry<String, OutboxProperties.Destination> destination : properties.getDestinations().entrySet()) {
+            if (!destination.getValue().accepts(event.type())) {
+                continue;
+            }
+            if (payload == null) {
+                payload = serialize(event);
+            }
+            messages.add(new OutboxMessage(destination.getKey(), event.type(), payload));
+        }
+        if (!messages.isEmpty()) {
+            outboxRepository.saveAll(messages);
+        }
+    }
+
+    private String serialize(ChangeEvent event) {
+        try {
+            return objectMapper.writeValueAsString(ChangeNotification.of(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize change event " + event, e);
+        }
+    }
+}
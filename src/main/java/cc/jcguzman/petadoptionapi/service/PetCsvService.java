@@ -0,0 +1,189 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.csv.CsvFormat;
+import cc.jcguzman.petadoptionapi.csv.CsvImporter;
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.event.PetChangedEvent;
+import cc.jcguzman.petadoptionapi.model.ImportResult;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.PetStatusChange;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import cc.jcguzman.petadoptionapi.stats.PetContribution;
+import cc.jcguzman.petadoptionapi.stats.ShelterAggregates;
+import cc.jcguzman.petadoptionapi.sync.ChangeSequence;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * CSV export and import of pets. Export streams rows straight from a database cursor
+ * to the response. Import inserts each batch of rows with one JDBC batch statement
+ * in its own transaction. Every other write goes through {@link Pet}'s entity
+ * listener, so import does that work itself: it stamps the change sequence, records
+ * the initial status and publishes the usual events.
+ */
+@Slf4j
+@Service
+public class PetCsvService {
+
+    private static final String INSERT_PET = "INSERT INTO pets (name, species, breed, temperament, age, gender, " +
+            "weight, color, date_arrived, adoption_fee, urgency, current_status, change_seq, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final PetRepository petRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final ChangeSequence changeSequence;
+    private final ShelterAggregates shelterAggregates;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    public PetCsvService(PetRepository petRepository, JdbcTemplate jdbcTemplate, EntityManager entityManager,
+                         ChangeSequence changeSequence, ShelterAggregates shelterAggregates,
+                         ApplicationEventPublisher eventPublisher, Validator validator,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${csv.import.batch-size:1000}") int batchSize) {
+        this.petRepository = petRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.changeSequence = changeSequence;
+        this.shelterAggregates = shelterAggregates;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+
+    public void exportPets(OutputStream output) {
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<Object[]> rows = petRepository.streamExportRows();
+                 SequenceWriter writer = CsvFormat.writer(CsvFormat.PET_COLUMNS).writeValues(output)) {
+                for (Object[] row : (Iterable<Object[]>) rows::iterator) {
+                    CsvFormat.writeRow(writer, row);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Adds every valid row as a new pet; an id column is ignored. Pets cannot be imported
+     * as FOSTERED, since placements have to go through a foster's capacity check.
+     */
+    public ImportResult importPets(InputStream input) throws IOException {
+        return new CsvImporter<>(CsvFormat.reader(Pet.class), validator, batchSize, this::writeBatch)
+                .importFrom(input);
+    }
+
+    private void writeBatch(List<CsvImporter.Row<Pet>> rows, ImportResult result) {
+        List<CsvImporter.Row<Pet>> accepted = new ArrayList<>(rows.size());
+        for (CsvImporter.Row<Pet> row : rows) {
+            Pet pet = row.value();
+            if (isBlank(pet.getName()) || isBlank(pet.getSpecies())) {
+                result.reject(row.number(), "Name and Species are required");
+            } else if (pet.getCurrentStatus() == Pet.Status.FOSTERED) {
+                result.reject(row.number(), "FOSTERED pets cannot be imported; assign them to a foster instead");
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(accepted));
+            result.addImported(accepted.size());
+        } catch (DataAccessException e) {
+            log.warn("Could not store {} imported pets", accepted.size(), e);
+            String message = "Not stored: " + e.getMostSpecificCause().getMessage();
+            accepted.forEach(row -> result.reject(row.number(), message));
+        }
+    }
+
+    private void insert(List<CsvImporter.Row<Pet>> rows) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Pet> pets = rows.stream().map(CsvImporter.Row::value).toList();
+        for (Pet pet : pets) {
+            pet.setId(null);
+            pet.setChangeSeq(changeSequence.next());
+            pet.setUpdatedAt(now);
+        }
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_PET, new String[]{"id"})) {
+                for (Pet pet : pets) {
+                    statement.setString(1, pet.getName());
+                    statement.setString(2, pet.getSpecies());
+                    statement.setString(3, pet.getBreed());
+                    statement.setString(4, pet.getTemperament());
+                    statement.setInt(5, pet.getAge());
+                    statement.setString(6, pet.getGender());
+                    statement.setDouble(7, pet.getWeight());
+                    statement.setString(8, pet.getColor());
+                    if (pet.getDateArrived() != null) {
+                        statement.setTimestamp(9, Timestamp.valueOf(pet.getDateArrived()));
+                    } else {
+                        statement.setNull(9, Types.TIMESTAMP);
+                    }
+                    statement.setDouble(10, pet.getAdoptionFee());
+                    statement.setInt(11, pet.getUrgency());
+                    statement.setString(12, pet.getCurrentStatus().name());
+                    statement.setLong(13, pet.getChangeSeq());
+                    statement.setTimestamp(14, Timestamp.valueOf(pet.getUpdatedAt()));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    for (Pet pet : pets) {
+                        keys.next();
+                        pet.setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+
+        for (Pet pet : pets) {
+            entityManager.persist(PetStatusChange.initial(
+                    entityManager.getReference(Pet.class, pet.getId()), pet.getCurrentStatus(), now));
+            shelterAggregates.recordPetChange(null, PetContribution.of(pet));
+            eventPublisher.publishEvent(ChangeEvent.petCreated(pet));
+            eventPublisher.publishEvent(new PetChangedEvent(pet.getId()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
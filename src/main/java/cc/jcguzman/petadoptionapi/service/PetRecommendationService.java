@@ -0,0 +1,71 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.PetChangedEvent;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.recommendation.AdopterProfile;
+import cc.jcguzman.petadoptionapi.recommendation.PetSnapshot;
+import cc.jcguzman.petadoptionapi.recommendation.RecommendationEngine;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import cc.jcguzman.petadoptionapi.util.RefreshableSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Recommends pets from an in-memory snapshot of the AVAILABLE ones. After pets change the
+ * snapshot is rebuilt on a background thread, at most once per
+ * {@code recommendations.refresh-interval}; requests keep ranking against the previous one.
+ */
+@Service
+public class PetRecommendationService {
+
+    static final int MAX_LIMIT = 100;
+
+    private final PetService petService;
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "recommendation-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final RefreshableSnapshot<PetSnapshot> snapshot;
+
+    public PetRecommendationService(PetRepository petRepository, PetService petService,
+                                    @Value("${recommendations.refresh-interval:5s}") Duration refreshInterval) {
+        this.petService = petService;
+        this.snapshot = new RefreshableSnapshot<>(() ->
+                PetSnapshot.of(petRepository.findRecommendationRowsByCurrentStatus(Pet.Status.AVAILABLE)),
+                refreshInterval, refresher);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    /**
+     * Ranks AVAILABLE pets against the profile, best match first. The snapshot may lag
+     * behind the database, so pets that have since been adopted, removed or fostered are
+     * dropped after loading, which can leave fewer than {@code limit}.
+     */
+    public List<Pet> recommend(AdopterProfile profile, int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalStateException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+        long[] ids = RecommendationEngine.recommend(snapshot.get(), profile, limit);
+        return petService.getPetsByIds(Arrays.stream(ids).boxed().toList()).values().stream()
+                .filter(pet -> pet.getCurrentStatus() == Pet.Status.AVAILABLE && pet.getCurrentFoster() == null)
+                .toList();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        snapshot.markStale();
+    }
+}
@@ -0,0 +1,72 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.PetChangedEvent;
+import cc.jcguzman.petadoptionapi.model.PetReport;
+import cc.jcguzman.petadoptionapi.reporting.PetColumns;
+import cc.jcguzman.petadoptionapi.reporting.ReportEngine;
+import cc.jcguzman.petadoptionapi.reporting.ReportQuery;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import cc.jcguzman.petadoptionapi.util.RefreshableSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * Runs ad-hoc pet reports against a columnar snapshot of the pets table. After pets change
+ * the snapshot is rebuilt on a background thread, at most once per
+ * {@code reports.refresh-interval}, since a rebuild reads the whole table; reports keep
+ * running against the previous snapshot meanwhile.
+ */
+@Service
+public class PetReportService {
+
+    private final ExecutorService refresher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "report-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final RefreshableSnapshot<PetColumns> snapshot;
+
+    public PetReportService(PetRepository petRepository, PlatformTransactionManager transactionManager,
+                            @Value("${reports.refresh-interval:30s}") Duration refreshInterval) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        this.snapshot = new RefreshableSnapshot<>(() -> readOnlyTransaction.execute(status -> {
+            PetColumns.Builder builder = PetColumns.builder();
+            try (Stream<Object[]> rows = petRepository.streamReportRows()) {
+                rows.forEach(builder::add);
+            }
+            return builder.build();
+        }), refreshInterval, refresher);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refresher.shutdownNow();
+    }
+
+    public PetReport run(ReportQuery query) {
+        PetColumns columns = snapshot.get();
+        long start = System.nanoTime();
+        PetReport report = new PetReport();
+        report.setGroups(ReportEngine.run(columns, query));
+        report.setMatchedPets(report.getGroups().stream().mapToLong(PetReport.Group::getCount).sum());
+        report.setScannedPets(columns.size());
+        report.setSnapshotTakenAt(columns.getTakenAt());
+        report.setElapsedMillis((System.nanoTime() - start) / 1_000_000);
+        return report;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPetChanged(PetChangedEvent event) {
+        snapshot.markStale();
+    }
+}
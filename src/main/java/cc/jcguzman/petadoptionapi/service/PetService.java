@@ -1,40 +1,89 @@
 package cc.jcguzman.petadoptionapi.service;
 
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
 import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.PetStatusChange;
 import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import cc.jcguzman.petadoptionapi.repository.PetStatusChangeRepository;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class PetService {
 
+    static final int MAX_BATCH_SIZE = 200;
+    static final int MAX_HISTORY_LIMIT = 1000;
+
+    private static final LocalDateTime BEGINNING = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(9999, 12, 31, 0, 0);
+
     private final PetRepository petRepository;
+    private final PetStatusChangeRepository statusChangeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Transactional(readOnly = true)
     public List<Pet> getAllPets() {
         return petRepository.findAll();
     }
 
+    @Transactional(readOnly = true)
     public Pet getPetById(Long id) {
         return petRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Pet not found with id: " + id));
     }
 
+    /**
+     * Loads pets with a single IN query. The returned map iterates in request order
+     * and has no entry for ids that do not exist.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Pet> getPetsByIds(Collection<Long> ids) {
+        if (ids.size() > MAX_BATCH_SIZE) {
+            throw new IllegalStateException("At most " + MAX_BATCH_SIZE + " ids can be requested at once");
+        }
+
+        Map<Long, Pet> byId = new LinkedHashMap<>();
+        for (Pet pet : petRepository.findByIdIn(new LinkedHashSet<>(ids))) {
+            byId.put(pet.getId(), pet);
+        }
+
+        Map<Long, Pet> ordered = new LinkedHashMap<>();
+        for (Long id : ids) {
+            Pet pet = byId.get(id);
+            if (pet != null) {
+                ordered.put(id, pet);
+            }
+        }
+        return ordered;
+    }
+
+    @Transactional(readOnly = true)
     public List<Pet> getAvailablePets() {
         return petRepository.findByCurrentStatus(Pet.Status.AVAILABLE);
     }
 
+    @Transactional(readOnly = true)
     public List<Pet> getPetsBySpecies(String species) {
         return petRepository.findBySpecies(species);
     }
 
     public Pet createPet(Pet pet) {
-        return petRepository.save(pet);
+        Pet saved = petRepository.save(pet);
+        eventPublisher.publishEvent(ChangeEvent.petCreated(saved));
+        return saved;
     }
 
     public Pet updatePet(Long id, Pet petDetails) {
@@ -49,16 +98,21 @@ public class PetService {
         pet.setWeight(petDetails.getWeight());
         pet.setColor(petDetails.getColor());
         pet.setAdoptionFee(petDetails.getAdoptionFee());
+        pet.setUrgency(petDetails.getUrgency());
 
-        return petRepository.save(pet);
+        Pet saved = petRepository.save(pet);
+        eventPublisher.publishEvent(ChangeEvent.petUpdated(saved));
+        return saved;
     }
 
     public void removePet(Long id) {
         Pet pet = getPetById(id);
         pet.remove();
         petRepository.save(pet);
+        eventPublisher.publishEvent(ChangeEvent.petStatusChanged(pet));
     }
 
+    @Transactional(readOnly = true)
     public List<Pet> getPetsNeedingFoster() {
         return petRepository.findByCurrentFosterIsNull();
     }
@@ -66,6 +120,38 @@ public class PetService {
     public Pet updatePetStatus(Long id, Pet.Status newStatus) {
         Pet pet = getPetById(id);
         pet.setCurrentStatus(newStatus);
-        return petRepository.save(pet);
+        Pet saved = petRepository.save(pet);
+        eventPublisher.publishEvent(ChangeEvent.petStatusChanged(saved));
+        return saved;
+    }
+
+    /**
+     * Status transitions of one pet, oldest first, optionally limited to a time window.
+     */
+    @Transactional(readOnly = true)
+    public List<PetStatusChange> getStatusHistory(Long id, LocalDateTime from, LocalDateTime to, int limit) {
+        checkHistoryLimit(limit);
+        if (!petRepository.existsById(id)) {
+            throw new EntityNotFoundException("Pet not found with id: " + id);
+        }
+        return statusChangeRepository.findByPet_IdAndChangedAtBetweenOrderByChangedAtAscIdAsc(
+                id, from != null ? from : BEGINNING, to != null ? to : END, Limit.of(limit));
+    }
+
+    /**
+     * Transitions of any pet into {@code status} within a time window, oldest first.
+     */
+    @Transactional(readOnly = true)
+    public List<PetStatusChange> getStatusChanges(Pet.Status status, LocalDateTime from, LocalDateTime to,
+                                                  int limit) {
+        checkHistoryLimit(limit);
+        return statusChangeRepository.findByToStatusAndChangedAtBetweenOrderByChangedAtAscIdAsc(
+                status, from != null ? from : BEGINNING, to != null ? to : END, Limit.of(limit));
+    }
+
+    private void checkHistoryLimit(int limit) {
+        if (limit < 1 || limit > MAX_HISTORY_LIMIT) {
+            throw new IllegalStateException("Limit must be between 1 and " + MAX_HISTORY_LIMIT);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,169 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.ShelterStats;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import cc.jcguzman.petadoptionapi.stats.ShelterAggregates;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serves shelter statistics from the in-memory {@link ShelterAggregates}, so a stats
+ * request costs no query. A background pass recomputes the totals from the database
+ * every {@code stats.reconcile-interval} and corrects any drift; the first pass runs at
+ * startup and establishes the baseline.
+ */
+@Slf4j
+@Service
+public class ShelterStatsService {
+
+    private static final double SECONDS_PER_DAY = 86_400.0;
+
+    private final ShelterAggregates aggregates;
+    private final PetRepository petRepository;
+    private final FosterRepository fosterRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Duration reconcileInterval;
+
+    private final ScheduledExecutorService reconciler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "stats-reconciler");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile Instant reconciledAt;
+
+    public ShelterStatsService(ShelterAggregates aggregates, PetRepository petRepository,
+                               FosterRepository fosterRepository, PlatformTransactionManager transactionManager,
+                               @Value("${stats.reconcile-interval:5m}") Duration reconcileInterval) {
+        this.aggregates = aggregates;
+        this.petRepository = petRepository;
+        this.fosterRepository = fosterRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.reconcileInterval = reconcileInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startReconciling() {
+        long interval = reconcileInterval.toMillis();
+        reconciler.scheduleWithFixedDelay(this::reconcileQuietly, 0, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        reconciler.shutdownNow();
+    }
+
+    public ShelterStats getStats() {
+        ShelterAggregates.Totals totals = aggregates.snapshot();
+        ShelterStats stats = new ShelterStats();
+
+        totals.groups().entrySet().stream()
+                .sorted(Map.Entry.comparingByKey(Comparator
+                        .comparing(ShelterAggregates.Group::species, Comparator.nullsFirst(Comparator.naturalOrder()))
+                        .thenComparing(ShelterAggregates.Group::status,
+                                Comparator.nullsFirst(Comparator.naturalOrder()))))
+                .forEach(entry -> {
+                    ShelterAggregates.Group group = entry.getKey();
+                    ShelterAggregates.GroupTotals groupTotals = entry.getValue();
+                    double feeTotal = groupTotals.feeCents() / 100.0;
+                    stats.getGroups().add(new ShelterStats.Group(group.species(), group.status(),
+                            groupTotals.count(), feeTotal));
+                    stats.setTotalPets(stats.getTotalPets() + groupTotals.count());
+                    if (group.status() == Pet.Status.AVAILABLE) {
+                        stats.setAvailableFeeTotal(stats.getAvailableFeeTotal() + feeTotal);
+                    } else if (group.status() == Pet.Status.ADOPTED) {
+                        stats.setAdoptedFeeTotal(stats.getAdoptedFeeTotal() + feeTotal);
+                    }
+                });
+
+        long inCare = totals.inCareWithArrival();
+        stats.setPetsInCare(inCare);
+        if (inCare > 0) {
+            // Mean of (now - arrival) is now minus the mean arrival
+            long now = LocalDateTime.now().toEpochSecond(ZoneOffset.UTC);
+            double meanArrival = (double) totals.inCareArrivalSeconds() / inCare;
+            stats.setAverageLengthOfStayDays(Math.max(0.0, (now - meanArrival) / SECONDS_PER_DAY));
+        }
+
+        stats.setActiveFosters(totals.activeFosters());
+        stats.setFosterCapacity(totals.fosterCapacity());
+        stats.setPlacedPets(totals.placedPets());
+        if (totals.fosterCapacity() > 0) {
+            stats.setFosterUtilization((double) totals.placedPets() / totals.fosterCapacity());
+        }
+        stats.setReconciledAt(reconciledAt);
+        return stats;
+    }
+
+    /**
+     * Recomputes the totals from the database and corrects the in-memory ones. Writes that
+     * commit while this runs may be counted twice or not at all until the next pass.
+     */
+    public void reconcile() {
+        ShelterAggregates.Totals actual = readOnlyTransaction.execute(status -> loadTotals());
+        if (aggregates.correct(actual) && reconciledAt != null) {
+            log.info("Corrected drift in shelter stats");
+        }
+        reconciledAt = Instant.now();
+    }
+
+    private void reconcileQuietly() {
+        try {
+            reconcile();
+        } catch (RuntimeException e) {
+            log.warn("Shelter stats reconciliation failed", e);
+        }
+    }
+
+    private ShelterAggregates.Totals loadTotals() {
+        Map<ShelterAggregates.Group, ShelterAggregates.GroupTotals> groups = new HashMap<>();
+        for (Object[] row : petRepository.summarizeBySpeciesAndStatus()) {
+            groups.put(new ShelterAggregates.Group((String) row[0], (Pet.Status) row[1]),
+                    new ShelterAggregates.GroupTotals(toLong(row[2]), toLong(row[3])));
+        }
+
+        List<Object[]> arrivals = petRepository.summarizeArrivals(EnumSet.of(Pet.Status.AVAILABLE, Pet.Status.FOSTERED));
+        List<Object[]> capacity = fosterRepository.summarizeActiveCapacity();
+        return new ShelterAggregates.Totals(groups,
+                toLong(arrivals.get(0)[0]), toLong(arrivals.get(0)[1]),
+                petRepository.countByCurrentFosterIsNotNull(),
+                toLong(capacity.get(0)[0]), toLong(capacity.get(0)[1]));
+    }
+
+    /** Aggregates come back as Long, Double or BigDecimal depending on the function; SUM of nothing is null. */
+    private static long toLong(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof BigDecimal decimal) {
+            return decimal.setScale(0, RoundingMode.HALF_UP).longValueExact();
+        }
+        if (value instanceof Double || value instanceof Float) {
+            return Math.round(((Number) value).doubleValue());
+        }
+        return ((Number) value).longValue();
+    }
+}
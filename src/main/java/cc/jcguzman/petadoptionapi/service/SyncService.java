@@ -0,0 +1,105 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.SyncPage;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import cc.jcguzman.petadoptionapi.sync.ChangeSequence;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves pets and fosters changed after a sync cursor. Both tables are range-scanned on
+ * their change sequence index and merged in sequence order, so a sync reads only the
+ * rows that changed. Removed pets and deactivated fosters are returned as ids only.
+ */
+@Service
+@Transactional(readOnly = true)
+@RequiredArgsConstructor
+public class SyncService {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final PetRepository petRepository;
+    private final FosterRepository fosterRepository;
+    private final ChangeSequence changeSequence;
+
+    public SyncPage getChangesSince(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalStateException("Since must not be negative");
+        }
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalStateException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        SyncPage page = new SyncPage();
+        page.setSince(since);
+        long upTo = changeSequence.committedUpTo();
+        if (since > changeSequence.current()) {
+            page.setNext(0);
+            page.setReset(true);
+            return page;
+        }
+        if (since >= upTo) {
+            page.setNext(since);
+            return page;
+        }
+
+        // One row past the limit from each table tells whether anything is left over
+        List<Pet> pets = petRepository.findByChangeSeqGreaterThanAndChangeSeqLessThanEqualOrderByChangeSeq(
+                since, upTo, Limit.of(limit + 1));
+        List<Object[]> fosterRows = fosterRepository.findChangedIds(since, upTo, Limit.of(limit + 1));
+
+        int petIndex = 0;
+        int fosterIndex = 0;
+        long next = since;
+        for (int taken = 0; taken < limit; taken++) {
+            long petSeq = petIndex < pets.size() ? pets.get(petIndex).getChangeSeq() : Long.MAX_VALUE;
+            long fosterSeq = fosterIndex < fosterRows.size() ? (Long) fosterRows.get(fosterIndex)[1] : Long.MAX_VALUE;
+            if (petSeq == Long.MAX_VALUE && fosterSeq == Long.MAX_VALUE) {
+                break;
+            }
+            if (petSeq < fosterSeq) {
+                petIndex++;
+                next = petSeq;
+            } else {
+                fosterIndex++;
+                next = fosterSeq;
+            }
+        }
+        boolean hasMore = petIndex < pets.size() || fosterIndex < fosterRows.size();
+        page.setHasMore(hasMore);
+        // Sequences can have gaps from rolled-back writes; a complete page covers them all
+        page.setNext(hasMore ? next : upTo);
+
+        for (Pet pet : pets.subList(0, petIndex)) {
+            if (pet.getCurrentStatus() == Pet.Status.REMOVED) {
+                page.getRemovedPetIds().add(pet.getId());
+            } else {
+                page.getPets().add(pet);
+            }
+        }
+
+        List<Long> fosterIds = fosterRows.subList(0, fosterIndex).stream().map(row -> (Long) row[0]).toList();
+        Map<Long, Foster> fosters = new HashMap<>();
+        for (Foster foster : fosterRepository.findByIdIn(fosterIds)) {
+            fosters.put(foster.getId(), foster);
+        }
+        for (Long id : fosterIds) {
+            Foster foster = fosters.get(id);
+            if (!foster.isActive()) {
+                page.getDeactivatedFosterIds().add(id);
+            } else {
+                page.getFosters().add(foster);
+            }
+        }
+        return page;
+    }
+}
@@ -0,0 +1,14 @@
+package cc.jcguzman.petadoptionapi.stats;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+
+/**
+ * What one foster adds to the {@link ShelterAggregates}. Only active fosters offer
+ * capacity.
+ */
+public record FosterContribution(boolean active, int maxPets) {
+
+    public static FosterContribution of(Foster foster) {
+        return new FosterContribution(foster.isActive(), foster.getMaxPets());
+    }
+}
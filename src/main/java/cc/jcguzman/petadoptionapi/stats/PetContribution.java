@@ -0,0 +1,35 @@
+package cc.jcguzman.petadoptionapi.stats;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+
+import java.time.ZoneOffset;
+
+/**
+ * What one pet adds to the {@link ShelterAggregates}. Kept on the loaded entity so a
+ * write can subtract the old contribution and add the new one without a query.
+ *
+ * @param feeCents            adoption fee rounded to cents, so sums are exact
+ * @param arrivedEpochSecond  arrival as UTC epoch seconds, or null if unknown
+ * @param placed              whether the pet is with a foster
+ */
+public record PetContribution(String species, Pet.Status status, long feeCents, Long arrivedEpochSecond,
+                              boolean placed) {
+
+    public static PetContribution of(Pet pet) {
+        return new PetContribution(
+                pet.getSpecies(),
+                pet.getCurrentStatus(),
+                toCents(pet.getAdoptionFee()),
+                pet.getDateArrived() != null ? pet.getDateArrived().toEpochSecond(ZoneOffset.UTC) : null,
+                pet.getCurrentFoster() != null);
+    }
+
+    /** Pets still in the shelter's care count towards the length of stay. */
+    public boolean inCare() {
+        return status == Pet.Status.AVAILABLE || status == Pet.Status.FOSTERED;
+    }
+
+    static long toCents(double amount) {
+        return Math.round(amount * 100);
+    }
+}
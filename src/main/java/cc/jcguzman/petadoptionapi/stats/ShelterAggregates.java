@@ -0,0 +1,183 @@
+package cc.jcguzman.petadoptionapi.stats;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running shelter totals, kept current by the entity listeners instead of being
+ * recomputed per request. Each write contributes the difference between the entity's
+ * contribution as loaded and as stored; the difference is applied only once the
+ * transaction commits, so a rollback leaves the totals alone.
+ *
+ * <p>Counters are {@link LongAdder}s, which stripe contended updates across cells, so
+ * concurrent writers do not serialize on a shared counter. Writes that bypass the
+ * listeners, or two transactions racing on one row, can still make the totals drift;
+ * {@link #correct(Totals)} brings them back in line with the database.</p>
+ */
+@Component
+public class ShelterAggregates {
+
+    private final Map<Group, Counters> groups = new ConcurrentHashMap<>();
+    private final LongAdder inCarePets = new LongAdder();
+    private final LongAdder inCareArrivalSeconds = new LongAdder();
+    private final LongAdder placedPets = new LongAdder();
+    private final LongAdder activeFosters = new LongAdder();
+    private final LongAdder fosterCapacity = new LongAdder();
+
+    /** Pets are grouped by species and status; fee totals are kept per group. */
+    public record Group(String species, Pet.Status status) {
+    }
+
+    public record GroupTotals(long count, long feeCents) {
+    }
+
+    /**
+     * A point-in-time copy of the totals.
+     *
+     * @param inCareWithArrival    pets in care whose arrival date is known
+     * @param inCareArrivalSeconds sum of their arrival times as UTC epoch seconds
+     */
+    public record Totals(Map<Group, GroupTotals> groups, long inCareWithArrival, long inCareArrivalSeconds,
+                         long placedPets, long activeFosters, long fosterCapacity) {
+    }
+
+    private static final class Counters {
+        final LongAdder count = new LongAdder();
+        final LongAdder feeCents = new LongAdder();
+    }
+
+    /**
+     * @param before the pet as loaded, or null if it is new
+     * @param after  the pet as stored, or null if it was deleted
+     */
+    public void recordPetChange(PetContribution before, PetContribution after) {
+        if (before == null && after == null || before != null && before.equals(after)) {
+            return;
+        }
+        afterCommit(() -> {
+            if (before != null) {
+                add(before, -1);
+            }
+            if (after != null) {
+                add(after, 1);
+            }
+        });
+    }
+
+    /**
+     * @param before the foster as loaded, or null if it is new
+     * @param after  the foster as stored, or null if it was deleted
+     */
+    public void recordFosterChange(FosterContribution before, FosterContribution after) {
+        if (before == null && after == null || before != null && before.equals(after)) {
+            return;
+        }
+        afterCommit(() -> {
+            if (before != null) {
+                add(before, -1);
+            }
+            if (after != null) {
+                add(after, 1);
+            }
+        });
+    }
+
+    public Totals snapshot() {
+        Map<Group, GroupTotals> copy = new HashMap<>();
+        groups.forEach((group, counters) -> {
+            long count = counters.count.sum();
+            long feeCents = counters.feeCents.sum();
+            if (count != 0 || feeCents != 0) {
+                copy.put(group, new GroupTotals(count, feeCents));
+            }
+        });
+        return new Totals(copy, inCarePets.sum(), inCareArrivalSeconds.sum(), placedPets.sum(),
+                activeFosters.sum(), fosterCapacity.sum());
+    }
+
+    /**
+     * Adds the difference between {@code actual} and the current totals. Adjusting rather
+     * than replacing keeps updates that land during the correction.
+     *
+     * @return whether anything had drifted
+     */
+    public boolean correct(Totals actual) {
+        Totals current = snapshot();
+        boolean drifted = false;
+
+        Set<Group> keys = new HashSet<>(current.groups().keySet());
+        keys.addAll(actual.groups().keySet());
+        GroupTotals none = new GroupTotals(0, 0);
+        for (Group group : keys) {
+            GroupTotals have = current.groups().getOrDefault(group, none);
+            GroupTotals want = actual.groups().getOrDefault(group, none);
+            if (!have.equals(want)) {
+                Counters counters = counters(group);
+                counters.count.add(want.count() - have.count());
+                counters.feeCents.add(want.feeCents() - have.feeCents());
+                drifted = true;
+            }
+        }
+
+        drifted |= adjust(inCarePets, current.inCareWithArrival(), actual.inCareWithArrival());
+        drifted |= adjust(inCareArrivalSeconds, current.inCareArrivalSeconds(), actual.inCareArrivalSeconds());
+        drifted |= adjust(placedPets, current.placedPets(), actual.placedPets());
+        drifted |= adjust(activeFosters, current.activeFosters(), actual.activeFosters());
+        drifted |= adjust(fosterCapacity, current.fosterCapacity(), actual.fosterCapacity());
+        return drifted;
+    }
+
+    private void add(PetContribution pet, int sign) {
+        Counters counters = counters(new Group(pet.species(), pet.status()));
+        counters.count.add(sign);
+        counters.feeCents.add(sign * pet.feeCents());
+        if (pet.inCare() && pet.arrivedEpochSecond() != null) {
+            inCarePets.add(sign);
+            inCareArrivalSeconds.add(sign * pet.arrivedEpochSecond());
+        }
+        if (pet.placed()) {
+            placedPets.add(sign);
+        }
+    }
+
+    private void add(FosterContribution foster, int sign) {
+        if (foster.active()) {
+            activeFosters.add(sign);
+            fosterCapacity.add((long) sign * foster.maxPets());
+        }
+    }
+
+    private Counters counters(Group group) {
+        return groups.computeIfAbsent(group, key -> new Counters());
+    }
+
+    private static boolean adjust(LongAdder adder, long current, long actual) {
+        if (current == actual) {
+            return false;
+        }
+        adder.add(actual - current);
+        return true;
+    }
+
+    private static void afterCommit(Runnable update) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    update.run();
+                }
+            });
+        } else {
+            update.run();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package cc.jcguzman.petadoptionapi.sync;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out the change sequence stamped on pets and fosters, shared by both tables.
+ *
+ * <p>Numbers are allocated when a row is flushed but only become visible when its
+ * transaction commits, and transactions can commit out of order. To keep a reader from
+ * skipping past a row that is still in flight, allocations are tracked until their
+ * transaction completes and {@link #committedUpTo()} stops just below the oldest one.</p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeSequence {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final TreeSet<Long> inFlight = new TreeSet<>();
+    private long last = -1;
+
+    public long next() {
+        lock.lock();
+        try {
+            ensureLoaded();
+            long sequence = ++last;
+            if (TransactionSynchronizationManager.isSynchronizationActive()) {
+                inFlight.add(sequence);
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCompletion(int status) {
+                        release(sequence);
+                    }
+                });
+            }
+            return sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the highest sequence below which every allocated number is committed or rolled back
+     */
+    public long committedUpTo() {
+        lock.lock();
+        try {
+            ensureLoaded();
+            return inFlight.isEmpty() ? last : inFlight.first() - 1;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return the highest sequence allocated so far
+     */
+    public long current() {
+        lock.lock();
+        try {
+            ensureLoaded();
+            return last;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long sequence) {
+        lock.lock();
+        try {
+            inFlight.remove(sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Continues from the stored maximum; loaded on first use, once the schema exists. */
+    private void ensureLoaded() {
+        if (last < 0) {
+            long pets = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(change_seq), 0) FROM pets", Long.class);
+            long fosters = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(change_seq), 0) FROM fosters", Long.class);
+            last = Math.max(pets, fosters);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package cc.jcguzman.petadoptionapi.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+
+/** Starts spans only where they will be exported: as children of a sampled current span. */
+public final class ChildSpans {
+
+    private ChildSpans() {
+    }
+
+    /** A started child of the current span, or null when there is none or it is not sampled. */
+    public static Span start(Tracer tracer, String name) {
+        Span parent = tracer.currentSpan();
+        if (parent == null || !Boolean.TRUE.equals(parent.context().sampled())) {
+            return null;
+        }
+        return tracer.nextSpan(parent).name(name).start();
+    }
+}
@@ -0,0 +1,64 @@
+package cc.jcguzman.petadoptionapi.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a child span, named {@code Class.method} and tagged with its layer, for each call
+ * into a controller, service or repository. Spans are only started inside a sampled trace,
+ * normally the request's server span, so unsampled requests and background jobs pay one
+ * thread-local lookup per call.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+// Inside the JFR service events, outside the transaction advice, so a span covers the commit
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class LayerSpans {
+
+    private final Tracer tracer;
+
+    @Around("within(@org.springframework.web.bind.annotation.RestController *) && execution(public * *(..))")
+    public Object controller(ProceedingJoinPoint call) throws Throwable {
+        return traced(call, "controller", call.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(public * cc.jcguzman.petadoptionapi.service..*.*(..))")
+    public Object service(ProceedingJoinPoint call) throws Throwable {
+        return traced(call, "service", call.getSignature().getDeclaringType().getSimpleName());
+    }
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object repository(ProceedingJoinPoint call) throws Throwable {
+        // Inherited methods such as findById are declared on CrudRepository; name the repository itself
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(call.getThis());
+        String type = interfaces.length > 0 ? interfaces[0].getSimpleName()
+                : call.getSignature().getDeclaringType().getSimpleName();
+        return traced(call, "repository", type);
+    }
+
+    private Object traced(ProceedingJoinPoint call, String layer, String type) throws Throwable {
+        Span span = ChildSpans.start(tracer, type + "." + call.getSignature().getName());
+        if (span == null) {
+            return call.proceed();
+        }
+
+        span.tag("layer", layer);
+        try (Tracer.SpanInScope scope = tracer.withSpan(span)) {
+            return call.proceed();
+        } catch (Throwable e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package cc.jcguzman.petadoptionapi.tracing;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.common.InstrumentationScopeInfo;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.data.EventData;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.data.StatusData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes each exported batch of spans as one line of OTLP/JSON, an
+ * {@code ExportTraceServiceRequest} as the collector's {@code otlpjsonfile} receiver reads
+ * it, to the {@code traces.otlp} logger. {@code logback-spring.xml} sends that logger to a
+ * rotating file. The JSON follows the OTLP/JSON mapping: ids in lowercase hex, enums as
+ * numbers, 64-bit integers and timestamps as strings, and default values left out.
+ *
+ * <p>Export runs on the batch span processor's thread, never on a request thread.</p>
+ */
+@Slf4j(topic = "traces.otlp")
+public class OtlpJsonSpanExporter implements SpanExporter {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    @Override
+    public CompletableResultCode export(Collection<SpanData> spans) {
+        if (!log.isInfoEnabled()) {
+            return CompletableResultCode.ofSuccess();
+        }
+        String line;
+        try {
+            line = toJson(spans);
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+        log.info(line);
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    static String toJson(Collection<SpanData> spans) throws IOException {
+        Map<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> grouped = new LinkedHashMap<>();
+        for (SpanData span : spans) {
+            grouped.computeIfAbsent(span.getResource(), resource -> new LinkedHashMap<>())
+                    .computeIfAbsent(span.getInstrumentationScopeInfo(), scope -> new ArrayList<>())
+                    .add(span);
+        }
+
+        StringWriter out = new StringWriter();
+        try (JsonGenerator json = JSON.createGenerator(out)) {
+            json.writeStartObject();
+            json.writeArrayFieldStart("resourceSpans");
+            for (Map.Entry<Resource, Map<InstrumentationScopeInfo, List<SpanData>>> resource : grouped.entrySet()) {
+                json.writeStartObject();
+                json.writeObjectFieldStart("resource");
+                writeAttributes(json, resource.getKey().getAttributes());
+                json.writeEndObject();
+                json.writeArrayFieldStart("scopeSpans");
+                for (Map.Entry<InstrumentationScopeInfo, List<SpanData>> scope : resource.getValue().entrySet()) {
+                    json.writeStartObject();
+                    writeScope(json, scope.getKey());
+                    json.writeArrayFieldStart("spans");
+                    for (SpanData span : scope.getValue()) {
+                        writeSpan(json, span);
+                    }
+                    json.writeEndArray();
+                    writeSchemaUrl(json, scope.getKey().getSchemaUrl());
+                    json.writeEndObject();
+                }
+                json.writeEndArray();
+                writeSchemaUrl(json, resource.getKey().getSchemaUrl());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        }
+        return out.toString();
+    }
+
+    private static void writeScope(JsonGenerator json, InstrumentationScopeInfo scope) throws IOException {
+        json.writeObjectFieldStart("scope");
+        json.writeStringField("name", scope.getName());
+        if (scope.getVersion() != null) {
+            json.writeStringField("version", scope.getVersion());
+        }
+        writeAttributes(json, scope.getAttributes());
+        json.writeEndObject();
+    }
+
+    private static void writeSpan(JsonGenerator json, SpanData span) throws IOException {
+        json.writeStartObject();
+        json.writeStringField("traceId", span.getTraceId());
+        json.writeStringField("spanId", span.getSpanId());
+        if (span.getParentSpanContext().isValid()) {
+            json.writeStringField("parentSpanId", span.getParentSpanId());
+        }
+        json.writeStringField("name", span.getName());
+        json.writeNumberField("kind", kind(span.getKind()));
+        json.writeStringField("startTimeUnixNano", Long.toString(span.getStartEpochNanos()));
+        json.writeStringField("endTimeUnixNano", Long.toString(span.getEndEpochNanos()));
+        writeAttributes(json, span.getAttributes());
+        writeDropped(json, "droppedAttributesCount", span.getTotalAttributeCount() - span.getAttributes().size());
+        if (!span.getEvents().isEmpty()) {
+            json.writeArrayFieldStart("events");
+            for (EventData event : span.getEvents()) {
+                json.writeStartObject();
+                json.writeStringField("timeUnixNano", Long.toString(event.getEpochNanos()));
+                json.writeStringField("name", event.getName());
+                writeAttributes(json, event.getAttributes());
+                writeDropped(json, "droppedAttributesCount",
+                        event.getTotalAttributeCount() - event.getAttributes().size());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        writeDropped(json, "droppedEventsCount", span.getTotalRecordedEvents() - span.getEvents().size());
+        if (!span.getLinks().isEmpty()) {
+            json.writeArrayFieldStart("links");
+            for (LinkData link : span.getLinks()) {
+                json.writeStartObject();
+                json.writeStringField("traceId", link.getSpanContext().getTraceId());
+                json.writeStringField("spanId", link.getSpanContext().getSpanId());
+                writeAttributes(json, link.getAttributes());
+                writeDropped(json, "droppedAttributesCount",
+                        link.getTotalAttributeCount() - link.getAttributes().size());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        writeDropped(json, "droppedLinksCount", span.getTotalRecordedLinks() - span.getLinks().size());
+        writeStatus(json, span.getStatus());
+        json.writeEndObject();
+    }
+
+    private static void writeStatus(JsonGenerator json, StatusData status) throws IOException {
+        json.writeObjectFieldStart("status");
+        if (!status.getDescription().isEmpty()) {
+            json.writeStringField("message", status.getDescription());
+        }
+        switch (status.getStatusCode()) {
+            case OK -> json.writeNumberField("code", 1);
+            case ERROR -> json.writeNumberField("code", 2);
+            case UNSET -> {
+            }
+        }
+        json.writeEndObject();
+    }
+
+    /** The proto's {@code Span.SpanKind} number; 0 is {@code SPAN_KIND_UNSPECIFIED}. */
+    private static int kind(SpanKind kind) {
+        return switch (kind) {
+            case INTERNAL -> 1;
+            case SERVER -> 2;
+            case CLIENT -> 3;
+            case PRODUCER -> 4;
+            case CONSUMER -> 5;
+        };
+    }
+
+    private static void writeAttributes(JsonGenerator json, Attributes attributes) throws IOException {
+        if (attributes.isEmpty()) {
+            return;
+        }
+        json.writeArrayFieldStart("attributes");
+        for (Map.Entry<AttributeKey<?>, Object> attribute : attributes.asMap().entrySet()) {
+            json.writeStartObject();
+            json.writeStringField("key", attribute.getKey().getKey());
+            json.writeFieldName("value");
+            writeValue(json, attribute.getValue());
+            json.writeEndObject();
+        }
+        json.writeEndArray();
+    }
+
+    /** An {@code AnyValue}; attribute values are strings, booleans, longs, doubles or lists of one of those. */
+    private static void writeValue(JsonGenerator json, Object value) throws IOException {
+        json.writeStartObject();
+        if (value instanceof Boolean bool) {
+            json.writeBooleanField("boolValue", bool);
+        } else if (value instanceof Long number) {
+            json.writeStringField("intValue", number.toString());
+        } else if (value instanceof Double number) {
+            json.writeNumberField("doubleValue", number);
+        } else if (value instanceof List<?> list) {
+            json.writeObjectFieldStart("arrayValue");
+            json.writeArrayFieldStart("values");
+            for (Object element : list) {
+                writeValue(json, element);
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        } else {
+            json.writeStringField("stringValue", String.valueOf(value));
+        }
+        json.writeEndObject();
+    }
+
+    private static void writeSchemaUrl(JsonGenerator json, String schemaUrl) throws IOException {
+        if (schemaUrl != null) {
+            json.writeStringField("schemaUrl", schemaUrl);
+        }
+    }
+
+    private static void writeDropped(JsonGenerator json, String field, int dropped) throws IOException {
+        if (dropped > 0) {
+            json.writeNumberField(field, dropped);
+        }
+    }
+}
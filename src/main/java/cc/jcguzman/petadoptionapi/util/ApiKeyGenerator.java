@@ -2,13 +2,25 @@ package cc.jcguzman.petadoptionapi.util;
 
 import java.security.SecureRandom;
 import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.List;
 import java.util.UUID;
 
 public class ApiKeyGenerator {
 
     private static final SecureRandom secureRandom = new SecureRandom();
 
+    /** URL-safe Base64 with '-' and '_' already swapped for 'K' and 'Q', as in prefixed keys. */
+    private static final char[] PREFIXED_KEY_ALPHABET =
+            "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789KQ".toCharArray();
+    private static final int PREFIXED_KEY_RANDOM_BYTES = 9;
+    private static final int PREFIXED_KEY_RANDOM_CHARS = 12;
+    /** Keys whose random bytes are drawn with one SecureRandom call in a batch. */
+    private static final int RANDOM_KEYS_PER_DRAW = 256;
+
     /**
      * Generates a simple UUID-based API key
      * Format: 550e8400-e29b-41d4-a716-446655440000
@@ -47,6 +59,56 @@ public class ApiKeyGenerator {
         return String.format("%s_%s_%s", prefix, timestamp, randomPart);
     }
 
+    /**
+     * Generates {@code count} keys in the {@link #generatePrefixedKey(String)} format. The
+     * date is rendered once, random bytes are drawn for many keys at a time, and each key
+     * is encoded into one reused buffer, so the returned String is the only allocation per key.
+     */
+    public static List<String> generatePrefixedKeys(String prefix, int count) {
+        LocalDate today = LocalDate.now(ZoneOffset.UTC);
+        char[] key = new char[prefix.length() + 12 + PREFIXED_KEY_RANDOM_CHARS];
+        prefix.getChars(0, prefix.length(), key, 0);
+        int position = prefix.length();
+        key[position++] = '_';
+        position = writeDigits(key, position, today.getYear(), 4);
+        key[position++] = '_';
+        position = writeDigits(key, position, today.getMonthValue(), 2);
+        key[position++] = '_';
+        position = writeDigits(key, position, today.getDayOfMonth(), 2);
+        key[position++] = '_';
+        int randomStart = position;
+
+        List<String> keys = new ArrayList<>(count);
+        byte[] randomBytes = new byte[PREFIXED_KEY_RANDOM_BYTES * Math.min(count, RANDOM_KEYS_PER_DRAW)];
+        int offset = randomBytes.length;
+        for (int i = 0; i < count; i++) {
+            if (offset == randomBytes.length) {
+                secureRandom.nextBytes(randomBytes);
+                offset = 0;
+            }
+            position = randomStart;
+            for (int end = offset + PREFIXED_KEY_RANDOM_BYTES; offset < end; offset += 3) {
+                int bits = (randomBytes[offset] & 0xff) << 16
+                        | (randomBytes[offset + 1] & 0xff) << 8
+                        | (randomBytes[offset + 2] & 0xff);
+                key[position++] = PREFIXED_KEY_ALPHABET[bits >>> 18];
+                key[position++] = PREFIXED_KEY_ALPHABET[(bits >>> 12) & 0x3f];
+                key[position++] = PREFIXED_KEY_ALPHABET[(bits >>> 6) & 0x3f];
+                key[position++] = PREFIXED_KEY_ALPHABET[bits & 0x3f];
+            }
+            keys.add(new String(key));
+        }
+        return keys;
+    }
+
+    private static int writeDigits(char[] buffer, int position, int value, int width) {
+        for (int i = position + width - 1; i >= position; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return position + width;
+    }
+
     /**
      * Generates a versioned API key with checksum
      * Format: v1.abcdef0123456789.a1b2c3
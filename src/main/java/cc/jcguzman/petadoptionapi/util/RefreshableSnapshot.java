@@ -0,0 +1,105 @@
+package cc.jcguzman.petadoptionapi.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Holds an immutable in-memory view that is rebuilt lazily after it has been marked
+ * stale. Only one thread rebuilds at a time; the others keep reading the previous
+ * view, and only the very first load blocks. With a minimum refresh interval, a stale
+ * view younger than the interval keeps being served, which bounds how often an
+ * expensive view is rebuilt under a steady stream of changes. With a refresh executor,
+ * rebuilds after the first load run there, so no reader waits on one.
+ */
+@Slf4j
+public class RefreshableSnapshot<T> {
+
+    private final Supplier<T> loader;
+    private final long minRefreshNanos;
+    private final Executor refresher;
+    private final AtomicBoolean stale = new AtomicBoolean(true);
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+    private volatile T current;
+    private volatile long loadedAt;
+
+    public RefreshableSnapshot(Supplier<T> loader) {
+        this(loader, Duration.ZERO);
+    }
+
+    public RefreshableSnapshot(Supplier<T> loader, Duration minRefreshInterval) {
+        this(loader, minRefreshInterval, null);
+    }
+
+    public RefreshableSnapshot(Supplier<T> loader, Duration minRefreshInterval, Executor refresher) {
+        this.loader = loader;
+        this.minRefreshNanos = minRefreshInterval.toNanos();
+        this.refresher = refresher;
+    }
+
+    public void markStale() {
+        stale.set(true);
+    }
+
+    public T get() {
+        T snapshot = current;
+        if (!stale.get() || snapshot != null && System.nanoTime() - loadedAt < minRefreshNanos) {
+            return snapshot;
+        }
+        if (snapshot != null && refresher != null) {
+            refreshInBackground();
+            return snapshot;
+        }
+        if (snapshot == null) {
+            rebuildLock.lock();
+        } else if (!rebuildLock.tryLock()) {
+            return snapshot;
+        }
+        return rebuildLocked();
+    }
+
+    private void refreshInBackground() {
+        if (!refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refresher.execute(() -> {
+                try {
+                    rebuildLock.lock();
+                    rebuildLocked();
+                } catch (RuntimeException e) {
+                    log.warn("Snapshot refresh failed; serving the previous view", e);
+                } finally {
+                    refreshing.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down; keep serving the current view
+            refreshing.set(false);
+        }
+    }
+
+    /** Rebuilds if still stale; the caller holds the rebuild lock, which is released here. */
+    private T rebuildLocked() {
+        try {
+            if (stale.getAndSet(false)) {
+                try {
+                    current = loader.get();
+                    loadedAt = System.nanoTime();
+                } catch (RuntimeException e) {
+                    stale.set(true);
+                    throw e;
+                }
+            }
+            return current;
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package cc.jcguzman.petadoptionapi.controller;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.service.ApiKeyService;
+import cc.jcguzman.petadoptionapi.service.FosterService;
+import cc.jcguzman.petadoptionapi.service.PetService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static cc.jcguzman.petadoptionapi.metrics.QueryBudgets.assertQueryBudget;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the read endpoints. Twenty fosters, each with a pet, are added to the
+ * sample data so that loading an association per row would blow the budget. Budgets
+ * include the statement that checks the API key.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querybudgettest",
+        "waitlist.auto-assign.enabled=false"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryBudgetTest {
+
+    private static final int FOSTERS = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private FosterService fosterService;
+
+    private String apiKey;
+    private final List<Long> petIds = new ArrayList<>();
+    private Long fosterId;
+
+    @BeforeAll
+    void createData() {
+        apiKey = apiKeyService.generateKey("Query budget test", "test", null).getKeyValue();
+        for (int i = 0; i < FOSTERS; i++) {
+            Foster foster = new Foster();
+            foster.setName("Budget");
+            foster.setLastName(Integer.toString(i));
+            foster.setPhone("555-0100");
+            foster.setAddress(i + " Budget St");
+            foster.setEmail("budget" + i + "@example.com");
+            foster.setMaxPets(2);
+            fosterId = fosterService.createFoster(foster).getId();
+
+            Pet pet = new Pet();
+            pet.setName("Budget " + i);
+            pet.setSpecies("Dog");
+            pet.setAge(2);
+            Long petId = petService.createPet(pet).getId();
+            fosterService.assignPetToFoster(fosterId, petId);
+            petIds.add(petId);
+        }
+    }
+
+    @Test
+    void listsPetsWithTheirFostersInAFewStatements() throws Exception {
+        assertQueryBudget(mockMvc, 4, request("/api/v1/pets")).andExpect(status().isOk());
+    }
+
+    @Test
+    void getsPetsByIdsInAFewStatements() throws Exception {
+        String ids = petIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        assertQueryBudget(mockMvc, 3, request("/api/v1/pets?ids=" + ids)).andExpect(status().isOk());
+    }
+
+    @Test
+    void getsOnePetInAFewStatements() throws Exception {
+        assertQueryBudget(mockMvc, 3, request("/api/v1/pets/" + petIds.get(0))).andExpect(status().isOk());
+    }
+
+    @Test
+    void listsFostersWithTheirPetsInAFewStatements() throws Exception {
+        assertQueryBudget(mockMvc, 4, request("/api/v1/fosters")).andExpect(status().isOk());
+    }
+
+    @Test
+    void getsOneFosterInAFewStatements() throws Exception {
+        assertQueryBudget(mockMvc, 3, request("/api/v1/fosters/" + fosterId)).andExpect(status().isOk());
+    }
+
+    private MockHttpServletRequestBuilder request(String path) {
+        return get(path).header("X-API-KEY", apiKey).accept(MediaType.APPLICATION_JSON);
+    }
+}
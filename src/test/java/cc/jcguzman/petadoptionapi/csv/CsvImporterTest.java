@@ -0,0 +1,74 @@
+package cc.jcguzman.petadoptionapi.csv;
+
+import cc.jcguzman.petadoptionapi.model.ImportResult;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CsvImporterTest {
+
+    private static final ValidatorFactory validation = Validation.buildDefaultValidatorFactory();
+
+    @AfterAll
+    static void closeValidation() {
+        validation.close();
+    }
+
+    @Test
+    void rejectsBadRowsAndKeepsImportingTheRest() throws IOException {
+        String csv = """
+                Name,Species,Age,Urgency
+                Rex,Dog,3,1
+                Tom,Cat,three,0
+                Bo,Dog,2,9
+                Ann,Cat,1,0
+                Zed,Dog,4,2
+                """;
+        List<List<Long>> batches = new ArrayList<>();
+
+        ImportResult result = importer(batches).importFrom(input(csv));
+
+        assertEquals(List.of(List.of(1L, 4L), List.of(5L)), batches);
+        assertEquals(3, result.getImported());
+        assertEquals(2, result.getRejected());
+        assertTrue(result.isComplete());
+        assertEquals(List.of(2L, 3L), result.getErrors().stream().map(ImportResult.RowError::getRow).toList());
+        assertTrue(result.getErrors().get(1).getMessage().startsWith("urgency:"),
+                result.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    void stopsAtAFileThatCannotBeParsedAndKeepsWrittenBatches() throws IOException {
+        String csv = "Name,Species\nRex,Dog\nTom,Cat\n\"Unterminated,Cat\n";
+        List<List<Long>> batches = new ArrayList<>();
+
+        ImportResult result = importer(batches).importFrom(input(csv));
+
+        assertEquals(List.of(List.of(1L, 2L)), batches);
+        assertFalse(result.isComplete());
+        assertEquals(3, result.getErrors().get(0).getRow());
+    }
+
+    private static CsvImporter<Pet> importer(List<List<Long>> batches) {
+        return new CsvImporter<>(CsvFormat.reader(Pet.class), validation.getValidator(), 2, (rows, result) -> {
+            batches.add(rows.stream().map(CsvImporter.Row::number).toList());
+            result.addImported(rows.size());
+        });
+    }
+
+    private static ByteArrayInputStream input(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+}
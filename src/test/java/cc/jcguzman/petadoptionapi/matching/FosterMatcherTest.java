@@ -0,0 +1,93 @@
+package cc.jcguzman.petadoptionapi.matching;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeout;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FosterMatcherTest {
+
+    @Test
+    void matchesBruteForceOptimumOnSmallInstances() {
+        Random random = new Random(42);
+        for (int trial = 0; trial < 200; trial++) {
+            int pets = 1 + random.nextInt(7);
+            int groups = 1 + random.nextInt(3);
+            double[][] scores = new double[pets][groups];
+            for (double[] row : scores) {
+                for (int g = 0; g < groups; g++) {
+                    row[g] = random.nextInt(21) - 5;
+                }
+            }
+            int[] capacity = new int[groups];
+            for (int g = 0; g < groups; g++) {
+                capacity[g] = random.nextInt(4);
+            }
+
+            int[] result = FosterMatcher.match(scores, capacity);
+
+            assertCapacityRespected(result, capacity);
+            assertEquals(bruteForce(scores, capacity.clone(), 0), total(scores, result), 1e-9);
+        }
+    }
+
+    @Test
+    void handlesFiftyThousandPetsQuickly() {
+        Random random = new Random(7);
+        int pets = 50_000;
+        int groups = 6;
+        double[][] scores = new double[pets][groups];
+        for (double[] row : scores) {
+            double wait = 1 + random.nextInt(365) * 0.1;
+            int species = random.nextInt(4);
+            for (int g = 0; g < groups; g++) {
+                row[g] = wait + (g == 0 ? 0 : (g - 1 == species ? 10 : -5));
+            }
+        }
+        int[] capacity = {5_000, 2_500, 2_500, 1_500, 1_500, 2_000};
+
+        int[] result = assertTimeout(java.time.Duration.ofSeconds(10), () -> FosterMatcher.match(scores, capacity));
+
+        assertCapacityRespected(result, capacity);
+    }
+
+    private static void assertCapacityRespected(int[] result, int[] capacity) {
+        int[] used = new int[capacity.length];
+        for (int group : result) {
+            if (group != FosterMatcher.UNASSIGNED) {
+                used[group]++;
+            }
+        }
+        for (int g = 0; g < capacity.length; g++) {
+            assertTrue(used[g] <= capacity[g], "group " + g + " over capacity");
+        }
+    }
+
+    private static double total(double[][] scores, int[] result) {
+        double sum = 0;
+        for (int pet = 0; pet < result.length; pet++) {
+            if (result[pet] != FosterMatcher.UNASSIGNED) {
+                sum += scores[pet][result[pet]];
+            }
+        }
+        return sum;
+    }
+
+    private static double bruteForce(double[][] scores, int[] capacity, int pet) {
+        if (pet == scores.length) {
+            return 0;
+        }
+        double best = bruteForce(scores, capacity, pet + 1);
+        for (int g = 0; g < capacity.length; g++) {
+            if (capacity[g] > 0) {
+                capacity[g]--;
+                best = Math.max(best, scores[pet][g] + bruteForce(scores, capacity, pet + 1));
+                capacity[g]++;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,30 @@
+package cc.jcguzman.petadoptionapi.metrics;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+/**
+ * Asserts how many SQL statements a request runs, serialization included, so an endpoint
+ * that starts loading an association row by row fails its test instead of reaching
+ * production. Counting needs the application's {@link QueryCounter} installed, which any
+ * Spring Boot test context has.
+ */
+public final class QueryBudgets {
+
+    private QueryBudgets() {
+    }
+
+    /** Performs the request and fails if it ran more than {@code maxStatements} statements. */
+    public static ResultActions assertQueryBudget(MockMvc mockMvc, int maxStatements, RequestBuilder request)
+            throws Exception {
+        try (QueryCounter.Scope scope = QueryCounter.open()) {
+            ResultActions result = mockMvc.perform(request);
+            if (scope.count() > maxStatements) {
+                throw new AssertionError("Request ran " + scope.count() + " SQL statements, over its budget of "
+                        + maxStatements + "; most repeated: " + scope.mostRepeated());
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package cc.jcguzman.petadoptionapi.recommendation;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecommendationEngineTest {
+
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit", "Bird"};
+    private static final String[] TEMPERAMENTS = {"Friendly", "Shy", "Playful and active", "Calm", "Independent"};
+
+    @Test
+    void ranksMatchingPetsFirstAndRespectsBudget() {
+        List<Object[]> rows = List.of(
+                row(1, "Dog", 30.0, 6, 150.0, "Protective"),
+                row(2, "Cat", 4.0, 2, 120.0, "Shy"),
+                row(3, "Cat", 5.0, 1, 500.0, "Shy"),
+                row(4, "Rabbit", 2.0, 1, 80.0, "Friendly"));
+        AdopterProfile profile = new AdopterProfile();
+        profile.setSpecies("cat");
+        profile.setSize(AdopterProfile.Size.SMALL);
+        profile.setMaxAge(3);
+        profile.setBudget(200.0);
+        profile.setTemperament(List.of("shy"));
+
+        long[] ids = RecommendationEngine.recommend(PetSnapshot.of(rows), profile, 10);
+
+        assertArrayEquals(new long[]{2, 4, 1}, ids);
+    }
+
+    @Test
+    void returnsStableTopKQuicklyAtScale() {
+        Random random = new Random(1);
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 100_000; i++) {
+            rows.add(row(i, SPECIES[random.nextInt(SPECIES.length)], random.nextDouble() * 40,
+                    random.nextInt(15), random.nextDouble() * 400, TEMPERAMENTS[random.nextInt(TEMPERAMENTS.length)]));
+        }
+        PetSnapshot snapshot = PetSnapshot.of(rows);
+        AdopterProfile profile = new AdopterProfile();
+        profile.setSpecies("Dog");
+        profile.setSize(AdopterProfile.Size.MEDIUM);
+        profile.setMinAge(1);
+        profile.setMaxAge(4);
+        profile.setBudget(300.0);
+        profile.setTemperament(List.of("playful", "friendly"));
+
+        for (int warmup = 0; warmup < 50; warmup++) {
+            RecommendationEngine.recommend(snapshot, profile, 20);
+        }
+        long start = System.nanoTime();
+        long[] ids = RecommendationEngine.recommend(snapshot, profile, 20);
+        long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+        assertEquals(20, ids.length);
+        assertTrue(elapsedMillis < 50, "scoring 100k pets took " + elapsedMillis + " ms");
+        long[] again = RecommendationEngine.recommend(snapshot, profile, 20);
+        assertArrayEquals(ids, again);
+    }
+
+    private static Object[] row(long id, String species, double weight, int age, double fee, String temperament) {
+        return new Object[]{id, species, weight, age, fee, temperament};
+    }
+}
@@ -0,0 +1,92 @@
+package cc.jcguzman.petadoptionapi.reporting;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.model.PetReport;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class ReportEngineTest {
+
+    private static final String[] SPECIES = {"Dog", "Cat", "Rabbit", "Bird"};
+
+    @Test
+    void groupsFiltersAndComputesPercentiles() {
+        PetColumns columns = PetColumns.builder()
+                .add(row("Dog", Pet.Status.AVAILABLE, 2, 100.0))
+                .add(row("dog", Pet.Status.AVAILABLE, 4, 300.0))
+                .add(row("Dog", Pet.Status.AVAILABLE, 5, 200.0))
+                .add(row("Cat", Pet.Status.AVAILABLE, 1, 50.0))
+                .add(row("Dog", Pet.Status.ADOPTED, 3, 999.0))
+                .build();
+        ReportQuery query = new ReportQuery();
+        query.setGroupBy(List.of(ReportQuery.Dimension.SPECIES, ReportQuery.Dimension.AGE_BUCKET));
+        query.setStatus(List.of(Pet.Status.AVAILABLE));
+        query.setPercentiles(List.of(50.0, 100.0));
+
+        List<PetReport.Group> groups = ReportEngine.run(columns, query);
+
+        assertEquals(3, groups.size());
+        PetReport.Group cats = groups.get(0);
+        assertEquals("Cat", cats.getSpecies());
+        assertEquals(0, cats.getAgeFrom());
+        assertEquals(2, cats.getAgeTo());
+        assertNull(cats.getStatus());
+
+        PetReport.Group olderDogs = groups.get(2);
+        assertEquals("Dog", olderDogs.getSpecies());
+        assertEquals(3, olderDogs.getAgeFrom());
+        assertEquals(2, olderDogs.getCount());
+        assertEquals(500.0, olderDogs.getFeeTotal());
+        assertEquals(200.0, olderDogs.getFeePercentiles().get(0).getFee());
+        assertEquals(300.0, olderDogs.getFeePercentiles().get(1).getFee());
+    }
+
+    @Test
+    void matchesSequentialEvaluationAcrossChunks() {
+        Random random = new Random(7);
+        PetColumns.Builder builder = PetColumns.builder();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 300_000; i++) {
+            Object[] row = row(SPECIES[random.nextInt(SPECIES.length)],
+                    Pet.Status.values()[random.nextInt(Pet.Status.values().length)],
+                    random.nextInt(16), random.nextInt(40_000) / 100.0);
+            rows.add(row);
+            builder.add(row);
+        }
+        ReportQuery query = new ReportQuery();
+        query.setGroupBy(List.of(ReportQuery.Dimension.STATUS, ReportQuery.Dimension.SPECIES));
+        query.setMinFee(25.0);
+        query.setPercentiles(List.of(90.0));
+
+        List<PetReport.Group> groups = ReportEngine.run(builder.build(), query);
+
+        Map<String, List<Long>> expected = new TreeMap<>();
+        for (Object[] row : rows) {
+            long cents = Math.round((Double) row[7] * 100);
+            if (cents >= 2500) {
+                expected.computeIfAbsent(row[4] + "/" + row[0], key -> new ArrayList<>()).add(cents);
+            }
+        }
+        assertEquals(expected.size(), groups.size());
+        for (PetReport.Group group : groups) {
+            List<Long> fees = expected.get(group.getStatus() + "/" + group.getSpecies());
+            fees.sort(null);
+            assertEquals(fees.size(), group.getCount());
+            assertEquals(fees.stream().mapToLong(Long::longValue).sum() / 100.0, group.getFeeTotal(), 1e-6);
+            int rank = (int) Math.ceil(0.9 * fees.size());
+            assertEquals(fees.get(rank - 1) / 100.0, group.getFeePercentiles().get(0).getFee());
+        }
+    }
+
+    private static Object[] row(String species, Pet.Status status, int age, double fee) {
+        return new Object[]{species, "Mixed", "Female", "Brown", status, age, 0, fee};
+    }
+}
@@ -0,0 +1,134 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Reads the change feed as a client would, through the {@code /api/v1/events} endpoint. The
+ * log holds only eight entries, so resuming from an old id runs into the reset path, and
+ * heartbeats come every 200 ms.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:changefeedtest",
+        "feed.history-size=8",
+        "feed.heartbeat-interval=200ms"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ChangeFeedServiceTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ChangeFeedService changeFeedService;
+
+    @Autowired
+    private ApiKeyService apiKeyService;
+
+    private String apiKey;
+
+    @BeforeAll
+    void createKey() {
+        apiKey = apiKeyService.generateKey("Change feed test", "test", null).getKeyValue();
+    }
+
+    @Test
+    void resumesAfterLastEventIdAndResetsOnceTheLogHasMovedOn() throws Exception {
+        MockHttpServletResponse live = subscribe(null);
+        for (long fosterId = 1001; fosterId <= 1003; fosterId++) {
+            changeFeedService.onChange(ChangeEvent.fosterCreated(fosterId));
+        }
+        List<Event> received = await(live, events -> events.size() == 3);
+        assertEquals(List.of("FOSTER_CREATED", "FOSTER_CREATED", "FOSTER_CREATED"),
+                received.stream().map(Event::name).toList());
+        long first = received.get(0).id();
+
+        List<Event> replayed = await(subscribe(first), events -> events.size() == 2);
+        assertEquals(List.of(first + 1, first + 2), replayed.stream().map(Event::id).toList());
+        assertTrue(replayed.get(0).data().contains("1002"), replayed.get(0).data());
+
+        // Overflow the eight-entry log: what the resumed subscriber missed is gone
+        for (long fosterId = 1004; fosterId <= 1013; fosterId++) {
+            changeFeedService.onChange(ChangeEvent.fosterCreated(fosterId));
+        }
+        List<Event> lapped = await(subscribe(first), events -> !events.isEmpty());
+        assertEquals(ChangeFeedService.RESET_EVENT, lapped.get(0).name());
+        assertEquals(first + 12, lapped.get(0).id());
+    }
+
+    @Test
+    void sendsHeartbeatsOnAnIdleStream() throws Exception {
+        MockHttpServletResponse idle = subscribe(null);
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!idle.getContentAsString().contains(":heartbeat") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(idle.getContentAsString().contains(":heartbeat"), idle.getContentAsString());
+    }
+
+    private MockHttpServletResponse subscribe(Long lastEventId) throws Exception {
+        var builder = get("/api/v1/events").header("X-API-KEY", apiKey).accept(MediaType.TEXT_EVENT_STREAM);
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder).andExpect(request().asyncStarted()).andReturn().getResponse();
+    }
+
+    private static List<Event> await(MockHttpServletResponse response, Predicate<List<Event>> done)
+            throws Exception {
+        long deadline = System.currentTimeMillis() + 5_000;
+        String stream = response.getContentAsString();
+        while (!done.test(parse(stream)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            stream = response.getContentAsString();
+        }
+        List<Event> events = parse(stream);
+        assertTrue(done.test(events), stream);
+        return events;
+    }
+
+    /** Events with an id, in order; comments such as heartbeats are skipped. */
+    private static List<Event> parse(String stream) {
+        List<Event> events = new ArrayList<>();
+        for (String block : stream.split("\n\n")) {
+            Long id = null;
+            String name = null;
+            String data = null;
+            for (String line : block.split("\n")) {
+                if (line.startsWith("id:")) {
+                    id = Long.parseLong(line.substring(3).trim());
+                } else if (line.startsWith("event:")) {
+                    name = line.substring(6).trim();
+                } else if (line.startsWith("data:")) {
+                    data = line.substring(5);
+                }
+            }
+            if (id != null) {
+                events.add(new Event(id, name, data));
+            }
+        }
+        return events;
+    }
+
+    private record Event(long id, String name, String data) {
+    }
+}
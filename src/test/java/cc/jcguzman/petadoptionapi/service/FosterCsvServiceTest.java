@@ -0,0 +1,51 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.ImportResult;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:csvtest")
+class FosterCsvServiceTest {
+
+    @Autowired
+    private FosterCsvService fosterCsvService;
+
+    @Autowired
+    private FosterService fosterService;
+
+    @Test
+    void rejectsEmailsAlreadyTakenInTheDatabaseOrTheFile() throws Exception {
+        Foster existing = new Foster();
+        existing.setName("Stored");
+        existing.setLastName("Foster");
+        existing.setPhone("555-0100");
+        existing.setAddress("1 Stored St");
+        existing.setEmail("stored@example.com");
+        fosterService.createFoster(existing);
+
+        String csv = """
+                Name,Last Name,Phone,Address,Email,MaxPets
+                Ann,Taken,555-0101,2 Csv St,stored@example.com,2
+                Bea,New,555-0102,3 Csv St,new@example.com,2
+                Cal,Again,555-0103,4 Csv St,new@example.com,2
+                """;
+
+        ImportResult result = fosterCsvService.importFosters(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(1, result.getImported());
+        assertEquals(List.of(1L, 3L), result.getErrors().stream().map(ImportResult.RowError::getRow).toList());
+        assertEquals(List.of("Bea"), fosterService.getAllFosters().stream()
+                .filter(foster -> foster.getEmail().equals("new@example.com"))
+                .map(Foster::getName)
+                .toList());
+    }
+}
@@ -0,0 +1,103 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.FosterAssignment;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies a matching against the database, with a foster that receives several pets in
+ * the one run, and checks that what was returned is what got stored.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:fostermatchingtest",
+        "waitlist.auto-assign.enabled=false"
+})
+class FosterMatchingServiceTest {
+
+    @Autowired
+    private FosterMatchingService fosterMatchingService;
+
+    @Autowired
+    private FosterService fosterService;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private PetRepository petRepository;
+
+    @Autowired
+    private FosterRepository fosterRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void appliesEveryPlannedAssignment() {
+        Foster foster = new Foster();
+        foster.setName("Matching");
+        foster.setLastName("Test");
+        foster.setPhone("555-0100");
+        foster.setAddress("1 Matching St");
+        foster.setEmail("matching@example.com");
+        foster.setMaxPets(5);
+        foster.setPreferredSpecies("Axolotl");
+        Long fosterId = fosterService.createFoster(foster).getId();
+
+        List<Long> axolotlIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            Pet pet = new Pet();
+            pet.setName("Axolotl " + i);
+            pet.setSpecies("Axolotl");
+            pet.setAge(1);
+            axolotlIds.add(petService.createPet(pet).getId());
+        }
+
+        List<FosterAssignment> assignments = fosterMatchingService.applyMatches();
+
+        assertFalse(assignments.isEmpty());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (FosterAssignment assignment : assignments) {
+                Pet pet = petRepository.findById(assignment.getPetId()).orElseThrow();
+                assertEquals(assignment.getFosterId(), pet.getFosterId());
+                assertEquals(Pet.Status.FOSTERED, pet.getCurrentStatus());
+            }
+            for (Foster stored : fosterRepository.findAll()) {
+                assertTrue(stored.getCurrentPetCount() <= stored.getMaxPets(),
+                        () -> "foster " + stored.getId() + " is over capacity");
+            }
+            // The preference bonus outweighs everything else, so all three land together
+            assertEquals(axolotlIds, fosterRepository.findById(fosterId).orElseThrow().getPetsAssigned().stream()
+                    .map(Pet::getId)
+                    .sorted()
+                    .toList());
+        });
+        assertTrue(fosterMatchingService.previewMatches().stream()
+                .noneMatch(assignment -> axolotlIds.contains(assignment.getPetId())));
+    }
+
+    @Test
+    void hashesFosterHoldingPets() {
+        // Outside a session the pet list is a plain list, which Lombok used to hash into a cycle
+        Foster foster = new Foster();
+        foster.setMaxPets(2);
+        foster.assignPet(new Pet());
+        foster.assignPet(new Pet());
+
+        assertEquals(1, Stream.of(foster, foster).distinct().count());
+    }
+}
@@ -0,0 +1,88 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.repository.FosterRepository;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Waitlist placement with mocked repositories: a foster preferring the species wins, then
+ * the one with most free slots, then the one loaded first, and excluded or full fosters are
+ * passed over.
+ */
+class FosterServiceTest {
+
+    private final FosterRepository fosterRepository = mock(FosterRepository.class);
+    private final PetRepository petRepository = mock(PetRepository.class);
+    private final FosterService fosterService =
+            new FosterService(fosterRepository, petRepository, mock(ApplicationEventPublisher.class));
+
+    @Test
+    void placesWithPreferredThenRoomiestFoster() {
+        Foster catLover = foster(1, "cat", 1);
+        Foster roomy = foster(2, null, 3);
+        Foster alsoRoomy = foster(3, "Rabbit", 3);
+        Foster dogLover = foster(4, "Dog", 2);
+        when(fosterRepository.findAvailableFostersWithPets()).thenReturn(List.of(catLover, roomy, alsoRoomy, dogLover));
+        List<Pet> pets = List.of(pet(11, "Cat"), pet(12, "Cat"), pet(13, "Dog"), pet(14, "Dog"), pet(15, "Bird"),
+                pet(16, "Dog"), pet(17, "Bird"));
+        when(petRepository.findByIdIn(any())).thenReturn(pets);
+
+        FosterService.WaitlistPlacement placement = fosterService.placeWaitingPets(
+                pets.stream().map(Pet::getId).toList(), Map.of(13L, Set.of(4L)));
+
+        // 11 fills the cat lover; 12 goes to the first of the two roomiest; 13 may not go back
+        // to the dog lover and takes the other; 14 and 16 fill the dog lover; the birds then
+        // find the two roomiest level again, so 15 goes to the first and 17 to the other
+        assertEquals(List.of(11L, 12L, 13L, 14L, 15L, 16L, 17L), placement.placed());
+        assertEquals(List.of(), placement.stillWaiting());
+        assertEquals(List.of(11L), ids(catLover));
+        assertEquals(List.of(12L, 15L), ids(roomy));
+        assertEquals(List.of(13L, 17L), ids(alsoRoomy));
+        assertEquals(List.of(14L, 16L), ids(dogLover));
+    }
+
+    @Test
+    void leavesPetsWaitingOnceEveryFosterIsFull() {
+        Foster only = foster(1, null, 1);
+        when(fosterRepository.findAvailableFostersWithPets()).thenReturn(List.of(only));
+        when(petRepository.findByIdIn(any())).thenReturn(List.of(pet(11, "Dog"), pet(12, "Dog")));
+
+        FosterService.WaitlistPlacement placement = fosterService.placeWaitingPets(List.of(11L, 12L), Map.of());
+
+        assertEquals(List.of(11L), placement.placed());
+        assertEquals(List.of(12L), placement.stillWaiting());
+    }
+
+    private static Foster foster(long id, String preferredSpecies, int maxPets) {
+        Foster foster = new Foster();
+        foster.setId(id);
+        foster.setName("Foster " + id);
+        foster.setPreferredSpecies(preferredSpecies);
+        foster.setMaxPets(maxPets);
+        return foster;
+    }
+
+    private static Pet pet(long id, String species) {
+        Pet pet = new Pet();
+        pet.setId(id);
+        pet.setName("Pet " + id);
+        pet.setSpecies(species);
+        return pet;
+    }
+
+    private static List<Long> ids(Foster foster) {
+        return foster.getPetsAssigned().stream().map(Pet::getId).toList();
+    }
+}
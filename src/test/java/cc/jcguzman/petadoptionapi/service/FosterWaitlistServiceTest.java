@@ -0,0 +1,164 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.event.ChangeEvent;
+import cc.jcguzman.petadoptionapi.event.FosterChangedEvent;
+import cc.jcguzman.petadoptionapi.event.PetChangedEvent;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.repository.PetRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the waitlist with mocked repositories and a scripted {@link FosterService}, so the
+ * queue, batching and retry behaviour can be checked without a database.
+ */
+class FosterWaitlistServiceTest {
+
+    private static final LocalDateTime ARRIVED = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final PetRepository petRepository = mock(PetRepository.class);
+    private final FosterService fosterService = mock(FosterService.class);
+    private final List<List<Long>> batches = Collections.synchronizedList(new ArrayList<>());
+    private FosterWaitlistService waitlist;
+
+    @AfterEach
+    void stop() {
+        waitlist.shutdown();
+    }
+
+    @Test
+    void ordersByUrgencyThenLongestWaiting() {
+        waitlist = new FosterWaitlistService(petRepository, fosterService, false);
+        when(petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE)).thenReturn(List.of(
+                pet(1, 0, ARRIVED), pet(2, 3, ARRIVED.plusDays(5)), pet(3, 0, ARRIVED.minusDays(1)),
+                pet(4, 3, ARRIVED), pet(5, 1, null)));
+
+        waitlist.loadWaitlist();
+
+        assertEquals(List.of(4L, 2L, 5L, 3L, 1L), waitlist.getWaitingPetIds(10));
+    }
+
+    @Test
+    void placesTheQueueInBatchesInPriorityOrder() throws Exception {
+        waitlist = new FosterWaitlistService(petRepository, fosterService, true);
+        List<Pet> pets = new ArrayList<>();
+        for (int i = 1; i <= 250; i++) {
+            pets.add(pet(i, 0, ARRIVED.plusMinutes(i)));
+        }
+        when(petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE)).thenReturn(pets);
+        when(fosterService.placeWaitingPets(any(), anyMap())).thenAnswer(invocation -> {
+            List<Long> batch = List.copyOf(invocation.getArgument(0));
+            batches.add(batch);
+            return new FosterService.WaitlistPlacement(batch, List.of());
+        });
+
+        waitlist.loadWaitlist();
+
+        await(() -> batches.size() == 3 && waitlist.getWaitingPetIds(10).isEmpty());
+        assertEquals(List.of(100, 100, 50), batches.stream().map(List::size).toList());
+        assertEquals(pets.stream().map(Pet::getId).toList(), batches.stream().flatMap(List::stream).toList());
+    }
+
+    @Test
+    void requeuesTheBatchWhenPlacementFails() throws Exception {
+        waitlist = new FosterWaitlistService(petRepository, fosterService, true);
+        when(petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE))
+                .thenReturn(List.of(pet(1, 2, ARRIVED), pet(2, 1, ARRIVED)));
+        when(fosterService.placeWaitingPets(any(), anyMap()))
+                .thenAnswer(invocation -> {
+                    batches.add(List.copyOf(invocation.getArgument(0)));
+                    throw new IllegalStateException("database unavailable");
+                })
+                .thenAnswer(invocation -> {
+                    List<Long> batch = List.copyOf(invocation.getArgument(0));
+                    batches.add(batch);
+                    return new FosterService.WaitlistPlacement(batch, List.of());
+                });
+
+        waitlist.loadWaitlist();
+        await(() -> batches.size() == 1 && waitlist.getWaitingPetIds(10).size() == 2);
+        assertEquals(List.of(1L, 2L), waitlist.getWaitingPetIds(10));
+
+        waitlist.onFosterChanged(new FosterChangedEvent(7L));
+        await(() -> batches.size() == 2 && waitlist.getWaitingPetIds(10).isEmpty());
+        assertEquals(List.of(1L, 2L), batches.get(1));
+    }
+
+    @Test
+    void retriesWaitingPetsWhenCapacityFreesUp() throws Exception {
+        waitlist = new FosterWaitlistService(petRepository, fosterService, true);
+        when(petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE))
+                .thenReturn(List.of(pet(1, 0, ARRIVED)));
+        when(fosterService.placeWaitingPets(any(), anyMap()))
+                .thenAnswer(invocation -> {
+                    batches.add(List.copyOf(invocation.getArgument(0)));
+                    return new FosterService.WaitlistPlacement(List.of(), List.of(1L));
+                })
+                .thenAnswer(invocation -> {
+                    batches.add(List.copyOf(invocation.getArgument(0)));
+                    return new FosterService.WaitlistPlacement(List.of(1L), List.of());
+                });
+
+        waitlist.loadWaitlist();
+        await(() -> batches.size() == 1 && waitlist.getWaitingPetIds(10).size() == 1);
+
+        // A foster gaining capacity shows up as a foster write
+        waitlist.onFosterChanged(new FosterChangedEvent(7L));
+        await(() -> batches.size() == 2 && waitlist.getWaitingPetIds(10).isEmpty());
+    }
+
+    @Test
+    void keepsEveryFosterAPetLeftExcluded() throws Exception {
+        waitlist = new FosterWaitlistService(petRepository, fosterService, true);
+        when(petRepository.findByCurrentFosterIsNullAndCurrentStatus(Pet.Status.AVAILABLE)).thenReturn(List.of());
+        when(petRepository.findByIdIn(any())).thenReturn(List.of(pet(1, 0, ARRIVED)));
+        List<Set<Long>> excluded = Collections.synchronizedList(new ArrayList<>());
+        when(fosterService.placeWaitingPets(any(), anyMap())).thenAnswer(invocation -> {
+            Map<Long, Set<Long>> byPet = invocation.getArgument(1);
+            excluded.add(Set.copyOf(byPet.getOrDefault(1L, Set.of())));
+            batches.add(List.copyOf(invocation.getArgument(0)));
+            return new FosterService.WaitlistPlacement(List.of(1L), List.of());
+        });
+        waitlist.loadWaitlist();
+
+        waitlist.onPetUnassigned(ChangeEvent.petUnassigned(1L, 10L, Pet.Status.AVAILABLE));
+        waitlist.onPetUnassigned(ChangeEvent.petUnassigned(1L, 11L, Pet.Status.AVAILABLE));
+        waitlist.onPetChanged(new PetChangedEvent(1L));
+
+        await(() -> batches.size() == 1);
+        assertEquals(Set.of(10L, 11L), excluded.get(0));
+    }
+
+    private static Pet pet(long id, int urgency, LocalDateTime arrived) {
+        Pet pet = new Pet();
+        pet.setId(id);
+        pet.setName("Pet " + id);
+        pet.setSpecies("Dog");
+        pet.setUrgency(urgency);
+        pet.setDateArrived(arrived);
+        return pet;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(condition.getAsBoolean(), "waitlist did not settle in time");
+    }
+}
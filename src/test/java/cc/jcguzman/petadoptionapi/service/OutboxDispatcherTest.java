@@ -0,0 +1,112 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.repository.OutboxRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the outbox end to end against a local HTTP stub that rejects its first two
+ * deliveries, so the retry path is exercised before messages get through.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:outboxtest",
+        "waitlist.auto-assign.enabled=false",
+        "outbox.destinations.partner.events=PET_STATUS_CHANGED",
+        "outbox.poll-interval=100ms",
+        "outbox.initial-backoff=50ms"
+})
+class OutboxDispatcherTest {
+
+    private static final HttpServer stub;
+    private static final AtomicInteger failuresLeft = new AtomicInteger(2);
+    private static final List<String> received = Collections.synchronizedList(new ArrayList<>());
+
+    static {
+        try {
+            stub = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        stub.createContext("/hooks", exchange -> {
+            String body = new String(exchange.getRequestBody().readAllBytes());
+            int status = failuresLeft.getAndDecrement() > 0 ? 503 : 204;
+            if (status == 204) {
+                received.add(body);
+            }
+            exchange.sendResponseHeaders(status, -1);
+            exchange.close();
+        });
+        stub.start();
+    }
+
+    @DynamicPropertySource
+    static void destination(DynamicPropertyRegistry registry) {
+        registry.add("outbox.destinations.partner.url",
+                () -> "http://localhost:" + stub.getAddress().getPort() + "/hooks");
+    }
+
+    @AfterAll
+    static void stopStub() {
+        stub.stop(0);
+    }
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private OutboxRepository outboxRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void deliversCommittedChangesInOrderAfterRetries() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            petService.updatePetStatus(1L, Pet.Status.ADOPTED);
+            status.setRollbackOnly();
+        });
+        assertEquals(0, outboxRepository.count(), "a rolled-back change must not reach the outbox");
+
+        petService.updatePetStatus(2L, Pet.Status.ADOPTED);
+        petService.updatePetStatus(3L, Pet.Status.ADOPTED);
+        petService.updatePetStatus(2L, Pet.Status.AVAILABLE);
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (outboxRepository.count() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertEquals(0, outboxRepository.count(), "outbox should drain once the stub recovers");
+        assertTrue(failuresLeft.get() < 0, "the stub's failures should have been retried");
+
+        List<String> delivered = new ArrayList<>();
+        for (String body : received) {
+            for (JsonNode message : objectMapper.readTree(body)) {
+                JsonNode event = message.get("Event");
+                delivered.add(event.get("PetId").asLong() + ":" + event.get("Status").asText());
+            }
+        }
+        assertEquals(List.of("2:ADOPTED", "3:ADOPTED", "2:AVAILABLE"), delivered);
+    }
+}
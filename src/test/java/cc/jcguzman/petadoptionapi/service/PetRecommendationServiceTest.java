@@ -0,0 +1,69 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.recommendation.AdopterProfile;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Recommends from a snapshot that is not rebuilt within the test, so pets adopted, fostered
+ * or removed after it was taken are still ranked and must be dropped on the way out.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:petrecommendationtest",
+        "recommendations.refresh-interval=1h",
+        "waitlist.auto-assign.enabled=false"
+})
+class PetRecommendationServiceTest {
+
+    @Autowired
+    private PetRecommendationService recommendationService;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private FosterService fosterService;
+
+    @Test
+    void leavesOutPetsNoLongerAvailableBeforeTheSnapshotCatchesUp() {
+        List<Long> quokkaIds = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Pet pet = new Pet();
+            pet.setName("Quokka " + i);
+            pet.setSpecies("Quokka");
+            pet.setAge(1);
+            quokkaIds.add(petService.createPet(pet).getId());
+        }
+        AdopterProfile profile = new AdopterProfile();
+        profile.setSpecies("Quokka");
+        assertEquals(quokkaIds, quokkas(profile).stream().sorted().toList());
+
+        Foster foster = new Foster();
+        foster.setName("Recommendation");
+        foster.setLastName("Test");
+        foster.setPhone("555-0101");
+        foster.setAddress("1 Snapshot St");
+        foster.setEmail("recommendation@example.com");
+        foster.setMaxPets(1);
+        petService.updatePetStatus(quokkaIds.get(0), Pet.Status.ADOPTED);
+        fosterService.assignPetToFoster(fosterService.createFoster(foster).getId(), quokkaIds.get(1));
+        petService.removePet(quokkaIds.get(2));
+
+        assertEquals(List.of(quokkaIds.get(3)), quokkas(profile));
+    }
+
+    private List<Long> quokkas(AdopterProfile profile) {
+        return recommendationService.recommend(profile, PetRecommendationService.MAX_LIMIT).stream()
+                .filter(pet -> "Quokka".equals(pet.getSpecies()))
+                .map(Pet::getId)
+                .toList();
+    }
+}
@@ -0,0 +1,74 @@
+package cc.jcguzman.petadoptionapi.service;
+
+import cc.jcguzman.petadoptionapi.model.Foster;
+import cc.jcguzman.petadoptionapi.model.FosterAssignment;
+import cc.jcguzman.petadoptionapi.model.Pet;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Moves and removes fostered pets and checks that each operation leaves one transition in
+ * the history, with no stay as AVAILABLE in between.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:petstatushistorytest",
+        "waitlist.auto-assign.enabled=false"
+})
+class PetStatusHistoryTest {
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private FosterService fosterService;
+
+    @Test
+    void recordsOneTransitionPerOperation() {
+        Long first = createFoster("first");
+        Long second = createFoster("second");
+        Long moved = createPet("Moved");
+        Long batchMoved = createPet("Batch moved");
+
+        fosterService.assignPetToFoster(first, moved);
+        fosterService.assignPetToFoster(second, moved);
+        petService.removePet(moved);
+
+        fosterService.assignPetToFoster(first, batchMoved);
+        fosterService.applyAssignments(List.of(
+                new FosterAssignment(FosterAssignment.Type.MOVE, batchMoved, first, second)));
+        fosterService.unassignPetFromFoster(second, batchMoved);
+
+        assertEquals(List.of("null->AVAILABLE", "AVAILABLE->FOSTERED", "FOSTERED->REMOVED"), history(moved));
+        assertEquals(List.of("null->AVAILABLE", "AVAILABLE->FOSTERED", "FOSTERED->AVAILABLE"), history(batchMoved));
+    }
+
+    private List<String> history(Long petId) {
+        return petService.getStatusHistory(petId, null, null, 100).stream()
+                .map(change -> change.getFromStatus() + "->" + change.getToStatus())
+                .toList();
+    }
+
+    private Long createFoster(String name) {
+        Foster foster = new Foster();
+        foster.setName(name);
+        foster.setLastName("History");
+        foster.setPhone("555-0102");
+        foster.setAddress("1 History St");
+        foster.setEmail(name + "@history.example.com");
+        foster.setMaxPets(2);
+        return fosterService.createFoster(foster).getId();
+    }
+
+    private Long createPet(String name) {
+        Pet pet = new Pet();
+        pet.setName(name);
+        pet.setSpecies("Dog");
+        pet.setAge(2);
+        return petService.createPet(pet).getId();
+    }
+}
@@ -0,0 +1,109 @@
+package cc.jcguzman.petadoptionapi.stats;
+
+import cc.jcguzman.petadoptionapi.model.Pet;
+import cc.jcguzman.petadoptionapi.service.PetService;
+import cc.jcguzman.petadoptionapi.service.ShelterStatsService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Checks the running totals against committed, rolled-back and out-of-band writes. Each
+ * test works on its own species so the groups it looks at are its own.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:shelteraggregatestest",
+        "stats.reconcile-interval=1h"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ShelterAggregatesTest {
+
+    @Autowired
+    private ShelterAggregates aggregates;
+
+    @Autowired
+    private ShelterStatsService shelterStatsService;
+
+    @Autowired
+    private PetService petService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void awaitFirstReconciliation() throws InterruptedException {
+        // The reconciler's first pass starts with the application; let it finish before counting
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (shelterStatsService.getStats().getReconciledAt() == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+
+    @Test
+    void appliesChangesOnlyOnceCommitted() {
+        Long petId = createPet("Tortoise", 40.0);
+        assertEquals(new ShelterAggregates.GroupTotals(1, 4000), totals("Tortoise", Pet.Status.AVAILABLE));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            petService.updatePetStatus(petId, Pet.Status.ADOPTED);
+            assertEquals(new ShelterAggregates.GroupTotals(1, 4000), totals("Tortoise", Pet.Status.AVAILABLE),
+                    "an uncommitted change must not show");
+        });
+
+        assertEquals(new ShelterAggregates.GroupTotals(0, 0), totals("Tortoise", Pet.Status.AVAILABLE));
+        assertEquals(new ShelterAggregates.GroupTotals(1, 4000), totals("Tortoise", Pet.Status.ADOPTED));
+    }
+
+    @Test
+    void leavesTotalsAloneOnRollback() {
+        Long petId = createPet("Gecko", 12.5);
+        ShelterAggregates.Totals before = aggregates.snapshot();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            petService.updatePetStatus(petId, Pet.Status.ADOPTED);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(before, aggregates.snapshot());
+        assertEquals(new ShelterAggregates.GroupTotals(1, 1250), totals("Gecko", Pet.Status.AVAILABLE));
+    }
+
+    @Test
+    void reconciliationCorrectsWritesThatBypassTheListeners() {
+        Long petId = createPet("Hedgehog", 30.0);
+        jdbcTemplate.update("UPDATE pets SET adoption_fee = 55.0, current_status = 'ADOPTED' WHERE id = ?", petId);
+        assertEquals(new ShelterAggregates.GroupTotals(1, 3000), totals("Hedgehog", Pet.Status.AVAILABLE),
+                "a direct SQL write is invisible to the listeners");
+
+        shelterStatsService.reconcile();
+
+        assertEquals(new ShelterAggregates.GroupTotals(0, 0), totals("Hedgehog", Pet.Status.AVAILABLE));
+        assertEquals(new ShelterAggregates.GroupTotals(1, 5500), totals("Hedgehog", Pet.Status.ADOPTED));
+        ShelterAggregates.Totals reconciled = aggregates.snapshot();
+        assertFalse(aggregates.correct(reconciled), "correcting to the current totals changes nothing");
+    }
+
+    private Long createPet(String species, double fee) {
+        Pet pet = new Pet();
+        pet.setName(species + " test");
+        pet.setSpecies(species);
+        pet.setAge(1);
+        pet.setAdoptionFee(fee);
+        return petService.createPet(pet).getId();
+    }
+
+    private ShelterAggregates.GroupTotals totals(String species, Pet.Status status) {
+        return aggregates.snapshot().groups()
+                .getOrDefault(new ShelterAggregates.Group(species, status), new ShelterAggregates.GroupTotals(0, 0));
+    }
+}
@@ -0,0 +1,147 @@
+package cc.jcguzman.petadoptionapi.tracing;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the OTLP/JSON line written for spans recorded through the SDK: the nesting
+ * {@code TraceSummary} and the collector read, ids, numeric enums and the string-encoded
+ * 64-bit values.
+ */
+class OtlpJsonSpanExporterTest {
+
+    @Test
+    void writesOneOtlpJsonLinePerBatch() throws Exception {
+        List<SpanData> spans = record();
+        ListAppender<ILoggingEvent> lines = new ListAppender<>();
+        lines.start();
+        Logger logger = (Logger) LoggerFactory.getLogger("traces.otlp");
+        logger.addAppender(lines);
+        try {
+            assertTrue(new OtlpJsonSpanExporter().export(spans).isSuccess());
+        } finally {
+            logger.detachAppender(lines);
+        }
+
+        assertEquals(1, lines.list.size());
+        String line = lines.list.get(0).getFormattedMessage();
+        assertFalse(line.contains("\n"), line);
+
+        JsonNode resourceSpans = new ObjectMapper().readTree(line).path("resourceSpans");
+        assertEquals(1, resourceSpans.size());
+        assertEquals("pet-adoption-api", attribute(resourceSpans.get(0).path("resource"), "service.name")
+                .path("stringValue").asText());
+        JsonNode scopeSpans = resourceSpans.get(0).path("scopeSpans").get(0);
+        assertEquals("test-scope", scopeSpans.path("scope").path("name").asText());
+        assertEquals("1.0", scopeSpans.path("scope").path("version").asText());
+
+        JsonNode child = scopeSpans.path("spans").get(0);
+        JsonNode server = scopeSpans.path("spans").get(1);
+        assertEquals("http get", server.path("name").asText());
+        assertEquals(2, server.path("kind").asInt());
+        assertTrue(server.path("traceId").asText().matches("[0-9a-f]{32}"), server.toString());
+        assertTrue(server.path("spanId").asText().matches("[0-9a-f]{16}"), server.toString());
+        assertTrue(server.path("parentSpanId").isMissingNode(), "a root span has no parent");
+        assertTrue(server.path("startTimeUnixNano").isTextual());
+        assertTrue(server.path("status").isEmpty(), "an unset status has no fields");
+        assertEquals("/api/v1/pets", attribute(server, "uri").path("stringValue").asText());
+        assertEquals("200", attribute(server, "status").path("intValue").asText());
+        assertTrue(attribute(server, "status").path("intValue").isTextual());
+        assertTrue(attribute(server, "cached").path("boolValue").asBoolean());
+
+        assertEquals("PetService.getAllPets", child.path("name").asText());
+        assertEquals(1, child.path("kind").asInt());
+        assertEquals(server.path("traceId"), child.path("traceId"));
+        assertEquals(server.path("spanId").asText(), child.path("parentSpanId").asText());
+        assertEquals(2, child.path("status").path("code").asInt());
+        assertEquals("query failed", child.path("status").path("message").asText());
+        assertEquals("retry", child.path("events").get(0).path("name").asText());
+        assertEquals("pets", attribute(child, "tables").path("arrayValue").path("values").get(0)
+                .path("stringValue").asText());
+        long nanos = Long.parseLong(child.path("endTimeUnixNano").asText())
+                - Long.parseLong(child.path("startTimeUnixNano").asText());
+        assertTrue(nanos >= 0);
+    }
+
+    /** A server span with a failed child, exported through the SDK's simple processor. */
+    private static List<SpanData> record() {
+        List<SpanData> exported = new ArrayList<>();
+        SpanExporter capture = new SpanExporter() {
+            @Override
+            public CompletableResultCode export(Collection<SpanData> spans) {
+                exported.addAll(spans);
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode flush() {
+                return CompletableResultCode.ofSuccess();
+            }
+
+            @Override
+            public CompletableResultCode shutdown() {
+                return CompletableResultCode.ofSuccess();
+            }
+        };
+        SdkTracerProvider provider = SdkTracerProvider.builder()
+                .setResource(Resource.create(Attributes.of(AttributeKey.stringKey("service.name"), "pet-adoption-api")))
+                .addSpanProcessor(SimpleSpanProcessor.create(capture))
+                .build();
+        try {
+            Tracer tracer = provider.get("test-scope", "1.0");
+            Span server = tracer.spanBuilder("http get").setSpanKind(SpanKind.SERVER)
+                    .setAttribute("uri", "/api/v1/pets")
+                    .setAttribute("status", 200L)
+                    .setAttribute("cached", true)
+                    .startSpan();
+            try (Scope ignored = server.makeCurrent()) {
+                Span child = tracer.spanBuilder("PetService.getAllPets")
+                        .setAttribute(AttributeKey.stringArrayKey("tables"), List.of("pets"))
+                        .startSpan();
+                child.addEvent("retry");
+                child.setStatus(StatusCode.ERROR, "query failed");
+                child.end();
+            } finally {
+                server.end();
+            }
+        } finally {
+            provider.close();
+        }
+        return exported;
+    }
+
+    private static JsonNode attribute(JsonNode owner, String key) {
+        for (JsonNode attribute : owner.path("attributes")) {
+            if (attribute.path("key").asText().equals(key)) {
+                return attribute.path("value");
+            }
+        }
+        throw new AssertionError("no attribute " + key + " in " + owner);
+    }
+}
@@ -0,0 +1,92 @@
+package cc.jcguzman.petadoptionapi.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.export.SimpleSpanProcessor;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LoggingInitializationContext;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Writes spans through the exporter into the span file as {@code logback-spring.xml} sets it
+ * up, with a tiny size limit, and reads back every file: the live one and the gzipped rolls,
+ * of which only {@code tracing.file.max-history} are kept.
+ * <p>
+ * Spring Boot configures Logback once per JVM and leaves it alone for later test contexts, so
+ * the test applies the configuration itself and hands it back uninitialized afterwards.
+ */
+class TraceFileRotationTest {
+
+    private static final Path FILE = Path.of("target/trace-file-rotation-test/spans.jsonl");
+
+    @Test
+    void rollsTheSpanFileIntoGzippedFilesOfWholeLines() throws Exception {
+        Path first = Path.of(FILE + ".1.gz");
+        Path second = Path.of(FILE + ".2.gz");
+        // Rolls left by an earlier run would pass for this one's
+        Files.deleteIfExists(first);
+        Files.deleteIfExists(second);
+
+        LoggingSystem logging = LoggingSystem.get(getClass().getClassLoader());
+        logging.cleanUp();
+        logging.beforeInitialize();
+        logging.initialize(new LoggingInitializationContext(new MockEnvironment()
+                .withProperty("tracing.file.name", FILE.toString())
+                .withProperty("tracing.file.max-size", "2KB")
+                .withProperty("tracing.file.max-history", "2")
+                .withProperty("tracing.file.check-interval", "50 milliseconds")), null, null);
+        try (SdkTracerProvider provider = SdkTracerProvider.builder()
+                .addSpanProcessor(SimpleSpanProcessor.create(new OtlpJsonSpanExporter()))
+                .build()) {
+            Tracer tracer = provider.get("rotation-test");
+            for (int i = 0; i < 40; i++) {
+                tracer.spanBuilder("span " + i).setAttribute("padding", "x".repeat(200)).startSpan().end();
+                // Past the check interval, so every line gets a size check
+                Thread.sleep(60);
+            }
+        } finally {
+            logging.cleanUp();
+        }
+
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!(Files.exists(first) && Files.exists(second)) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(Files.exists(first), "no first roll");
+        assertTrue(Files.exists(second), "no second roll");
+        assertFalse(Files.exists(Path.of(FILE + ".3.gz")), "more rolls kept than tracing.file.max-history");
+
+        for (Path file : List.of(FILE, first, second)) {
+            List<String> lines = read(file);
+            assertFalse(lines.isEmpty(), file + " is empty");
+            for (String line : lines) {
+                assertTrue(new ObjectMapper().readTree(line).path("resourceSpans").isArray(), line);
+            }
+        }
+    }
+
+    private static List<String> read(Path file) throws IOException {
+        InputStream in = Files.newInputStream(file);
+        if (file.getFileName().toString().endsWith(".gz")) {
+            in = new GZIPInputStream(in);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            return reader.lines().toList();
+        }
+    }
+}
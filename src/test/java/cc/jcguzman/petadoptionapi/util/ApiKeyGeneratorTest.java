@@ -0,0 +1,37 @@
+package cc.jcguzman.petadoptionapi.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ApiKeyGeneratorTest {
+
+    private static final Pattern PREFIXED_KEY = Pattern.compile("pat_\\d{4}_\\d{2}_\\d{2}_[A-Za-z0-9]{12}");
+
+    @Test
+    void batchKeysHaveTheSingleKeyFormat() {
+        String single = ApiKeyGenerator.generatePrefixedKey("pat");
+        List<String> batch = ApiKeyGenerator.generatePrefixedKeys("pat", 10);
+
+        assertTrue(PREFIXED_KEY.matcher(single).matches(), single);
+        for (String key : batch) {
+            assertTrue(PREFIXED_KEY.matcher(key).matches(), key);
+            // Same prefix and date; only the random part differs
+            assertEquals(single.substring(0, single.length() - 12), key.substring(0, key.length() - 12));
+        }
+    }
+
+    @Test
+    void batchKeysAreUnique() {
+        // More keys than one random draw covers, so the refill path is exercised too
+        List<String> batch = ApiKeyGenerator.generatePrefixedKeys("pat", 10_000);
+
+        assertEquals(10_000, batch.size());
+        assertEquals(batch.size(), new HashSet<>(batch).size());
+    }
+}